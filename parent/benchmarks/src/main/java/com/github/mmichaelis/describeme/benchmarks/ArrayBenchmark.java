@@ -0,0 +1,105 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mmichaelis.describeme.benchmarks;
+
+import com.github.mmichaelis.describeme.core.Describe;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Describing deeply nested arrays via {@code ArrayDescriber}.
+ * </p>
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArrayBenchmark {
+
+  private static final int WIDTH = 4;
+
+  @Param({"4", "64"})
+  public int depth;
+
+  private Object[] nested;
+  private Integer[] flat;
+  private int[] primitive;
+  private byte[] bytes;
+
+  @Setup
+  public void setUp() {
+    Object[] current = {0, 1, 2};
+    for (int level = 1; level < depth; level++) {
+      Object[] parent = new Object[WIDTH];
+      for (int i = 0; i < (WIDTH - 1); i++) {
+        parent[i] = level * i;
+      }
+      parent[WIDTH - 1] = current;
+      current = parent;
+    }
+    nested = current;
+    flat = new Integer[depth * WIDTH];
+    primitive = new int[depth * WIDTH];
+    bytes = new byte[depth * WIDTH];
+    for (int i = 0; i < flat.length; i++) {
+      flat[i] = i;
+      primitive[i] = i;
+      bytes[i] = (byte) i;
+    }
+  }
+
+  @Benchmark
+  public String nestedArray() {
+    return Describe.describe(nested, -1, -1);
+  }
+
+  @Benchmark
+  public String nestedArrayDepthLimited() {
+    return Describe.describe(nested, 3, -1);
+  }
+
+  @Benchmark
+  public String flatArray() {
+    return Describe.describe(flat, -1, -1);
+  }
+
+  @Benchmark
+  public String primitiveArray() {
+    return Describe.describe(primitive, -1, -1);
+  }
+
+  @Benchmark
+  public String byteArray() {
+    return Describe.describe(bytes, -1, -1);
+  }
+}
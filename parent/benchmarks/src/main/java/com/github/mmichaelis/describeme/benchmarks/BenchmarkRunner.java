@@ -0,0 +1,58 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mmichaelis.describeme.benchmarks;
+
+import org.openjdk.jmh.Main;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>
+ * Runs JMH with the given command line options and adds the {@code gc} profiler unless given,
+ * so that next to throughput the allocation rate is reported.
+ * </p>
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+public final class BenchmarkRunner {
+
+  private static final String PROFILER_OPTION = "-prof";
+  private static final String GC_PROFILER = "gc";
+
+  private BenchmarkRunner() {
+  }
+
+  public static void main(String[] args) throws IOException {
+    List<String> arguments = new ArrayList<>(Arrays.asList(args));
+    if (!hasGcProfiler(args)) {
+      arguments.add(PROFILER_OPTION);
+      arguments.add(GC_PROFILER);
+    }
+    Main.main(arguments.toArray(new String[arguments.size()]));
+  }
+
+  private static boolean hasGcProfiler(String[] args) {
+    for (int i = 0; i < (args.length - 1); i++) {
+      if (PROFILER_OPTION.equals(args[i]) && args[i + 1].startsWith(GC_PROFILER)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mmichaelis.describeme.benchmarks;
+
+import com.github.mmichaelis.describeme.core.Describe;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Time of the first description in a fresh JVM, which includes loading the describer registry:
+ * from the describer index, instantiating only the describers required, or via
+ * {@code ServiceLoader}, instantiating all describers at once.
+ * </p>
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+@State(Scope.Benchmark)
+public class ColdStartBenchmark {
+
+  @Param({"true", "false"})
+  public String index;
+
+  private List<Object> value;
+
+  /**
+   * Selects the registry before any class of DescribeMe is initialized.
+   */
+  @Setup
+  public void setUp() {
+    System.setProperty("describe.registry.index", index);
+    value = Arrays.asList("Lorem", 42);
+  }
+
+  @Benchmark
+  public String firstDescription() {
+    return Describe.describe(value, -1, -1);
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mmichaelis.describeme.benchmarks;
+
+import com.github.mmichaelis.describeme.core.Describe;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Describing graphs containing cycles, which are detected by
+ * {@code RecursiveDescriptionConsumer}.
+ * </p>
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CyclicGraphBenchmark {
+
+  private static final int ELEMENTS_PER_NODE = 16;
+
+  @Param({"8", "64"})
+  public int chainLength;
+
+  private List<Object> selfContaining;
+  private List<Object> chain;
+
+  @Setup
+  public void setUp() {
+    selfContaining = new ArrayList<>();
+    for (int i = 0; i < ELEMENTS_PER_NODE; i++) {
+      selfContaining.add(i);
+      selfContaining.add(selfContaining);
+    }
+    // Chain of nodes, each containing some elements, the next node and the first node again.
+    chain = new ArrayList<>();
+    List<Object> current = chain;
+    for (int node = 1; node < chainLength; node++) {
+      List<Object> next = new ArrayList<>();
+      for (int i = 0; i < ELEMENTS_PER_NODE; i++) {
+        current.add(i);
+      }
+      current.add(next);
+      current.add(chain);
+      current = next;
+    }
+    current.add(chain);
+  }
+
+  @Benchmark
+  public String selfContaining() {
+    return Describe.describe(selfContaining, -1, -1);
+  }
+
+  @Benchmark
+  public String chain() {
+    return Describe.describe(chain, -1, -1);
+  }
+}
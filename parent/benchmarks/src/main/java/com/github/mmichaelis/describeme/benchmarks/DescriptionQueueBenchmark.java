@@ -0,0 +1,89 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mmichaelis.describeme.benchmarks;
+
+import com.github.mmichaelis.describeme.core.Describe;
+import com.github.mmichaelis.describeme.core.DescriptionQueue;
+import com.github.mmichaelis.describeme.core.DescriptionQueue.Overflow;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Time spent by the calling thread to describe a large list synchronously, compared to handing
+ * it to a description queue, which either describes it in the background or summarizes it
+ * while full.
+ * </p>
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DescriptionQueueBenchmark {
+
+  @Param({"1000"})
+  public int size;
+
+  private List<Object> value;
+  private DescriptionQueue queue;
+
+  @Setup
+  public void setUp() {
+    value = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      value.add("Lorem ipsum " + i);
+    }
+    queue = new DescriptionQueue(1024, 64, 2, Overflow.SUMMARY);
+  }
+
+  @TearDown
+  public void tearDown() throws InterruptedException {
+    queue.close();
+    queue.awaitTermination(10L, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public StringBuilder synchronous() {
+    StringBuilder description = new StringBuilder();
+    Describe.describeTo(description, value, -1, -1, -1);
+    return description;
+  }
+
+  @Benchmark
+  public CompletableFuture<Void> queued() {
+    return queue.describeTo(new StringBuilder(), value, -1, -1, -1);
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mmichaelis.describeme.benchmarks;
+
+import com.github.mmichaelis.describeme.core.Describe;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Describing single values which are no containers.
+ * </p>
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FlatValuesBenchmark {
+
+  @Param({"-1", "12"})
+  public int maxCount;
+
+  private String shortString;
+  private String longString;
+  private Integer integer;
+  private Long longValue;
+  private Double doubleValue;
+  private BigDecimal bigDecimal;
+
+  @Setup
+  public void setUp() {
+    shortString = "Lorem Ipsum";
+    StringBuilder sb = new StringBuilder();
+    while (sb.length() < 4096) {
+      sb.append("Lorem ipsum dolor sit amet, consectetur adipiscing elit. ");
+    }
+    longString = sb.toString();
+    integer = -764_832_622;
+    longValue = 1_234_567_890_123L;
+    doubleValue = 1.23456789123456789d;
+    bigDecimal = new BigDecimal("123456789.987654321");
+  }
+
+  @Benchmark
+  public String shortString() {
+    return Describe.describe(shortString, -1, maxCount);
+  }
+
+  @Benchmark
+  public String longString() {
+    return Describe.describe(longString, -1, maxCount);
+  }
+
+  @Benchmark
+  public String integer() {
+    return Describe.describe(integer, -1, maxCount);
+  }
+
+  @Benchmark
+  public String longValue() {
+    return Describe.describe(longValue, -1, maxCount);
+  }
+
+  @Benchmark
+  public String doubleValue() {
+    return Describe.describe(doubleValue, -1, maxCount);
+  }
+
+  @Benchmark
+  public String bigDecimal() {
+    return Describe.describe(bigDecimal, -1, maxCount);
+  }
+}
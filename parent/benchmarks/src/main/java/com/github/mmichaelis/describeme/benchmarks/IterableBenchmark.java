@@ -0,0 +1,89 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mmichaelis.describeme.benchmarks;
+
+import com.github.mmichaelis.describeme.core.Describe;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Describing large lists via {@code IterableDescriber}.
+ * </p>
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IterableBenchmark {
+
+  @Param({"100", "10000"})
+  public int size;
+  @Param({"-1", "12"})
+  public int maxCount;
+
+  private List<Integer> arrayList;
+  private List<Integer> linkedList;
+  private List<List<String>> nestedList;
+
+  @Setup
+  public void setUp() {
+    arrayList = new ArrayList<>(size);
+    nestedList = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      arrayList.add(i);
+      List<String> inner = new ArrayList<>();
+      inner.add("Lorem");
+      inner.add(String.valueOf(i));
+      nestedList.add(inner);
+    }
+    linkedList = new LinkedList<>(arrayList);
+  }
+
+  @Benchmark
+  public String arrayList() {
+    return Describe.describe(arrayList, -1, maxCount);
+  }
+
+  @Benchmark
+  public String linkedList() {
+    return Describe.describe(linkedList, -1, maxCount);
+  }
+
+  @Benchmark
+  public String nestedList() {
+    return Describe.describe(nestedList, -1, maxCount);
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mmichaelis.describeme.benchmarks;
+
+import com.github.mmichaelis.describeme.core.Describe;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Describing long strings, with and without characters to escape, as strings and as other
+ * character sequences, in full and truncated.
+ * </p>
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringBenchmark {
+
+  @Param({"1024", "65536"})
+  public int length;
+
+  @Param({"-1", "100"})
+  public int maxCount;
+
+  private String plain;
+  private String escaped;
+  private StringBuilder builder;
+
+  @Setup
+  public void setUp() {
+    plain = repeat("Lorem ipsum dolor sit amet, consectetur adipiscing elit. ");
+    escaped = repeat("Lorem \"ipsum\"\tdolor\\sit amet,\nconsectetur adipiscing elit.\n");
+    builder = new StringBuilder(plain);
+  }
+
+  private String repeat(String text) {
+    StringBuilder sb = new StringBuilder(length + text.length());
+    while (sb.length() < length) {
+      sb.append(text);
+    }
+    return sb.substring(0, length);
+  }
+
+  @Benchmark
+  public String plain() {
+    return Describe.describe(plain, -1, maxCount);
+  }
+
+  @Benchmark
+  public String escaped() {
+    return Describe.describe(escaped, -1, maxCount);
+  }
+
+  @Benchmark
+  public String builder() {
+    return Describe.describe(builder, -1, maxCount);
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mmichaelis.describeme.benchmarks;
+
+import com.github.mmichaelis.describeme.core.Describe;
+import com.github.mmichaelis.describeme.core.Describer;
+import com.github.mmichaelis.describeme.library.ArrayDescriber;
+import com.github.mmichaelis.describeme.library.IterableDescriber;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * Compares the traversal paths of {@code AbstractStreamDescriber}: plain loops for elements of
+ * known number ({@code sized}), the spliterator path used for elements of unknown number
+ * ({@code spliterator}) and describing a stream of the same elements ({@code stream}).
+ * </p>
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TraversalBenchmark {
+
+  @Param({"arrayList", "array", "linkedHashSet"})
+  public String container;
+  @Param({"100", "10000"})
+  public int size;
+  @Param({"-1", "12"})
+  public int maxCount;
+
+  private Object value;
+  private Describer sizedDescriber;
+  private Describer spliteratorDescriber;
+
+  @Setup
+  public void setUp() {
+    List<Integer> elements = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      elements.add(i);
+    }
+    switch (container) {
+      case "arrayList":
+        value = elements;
+        break;
+      case "array":
+        value = elements.toArray();
+        break;
+      case "linkedHashSet":
+        value = new LinkedHashSet<>(elements);
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown container: " + container);
+    }
+    boolean array = value instanceof Object[];
+    sizedDescriber = array ? new ArrayDescriber() : new IterableDescriber();
+    spliteratorDescriber = array ? new UnsizedArrayDescriber() : new UnsizedIterableDescriber();
+  }
+
+  @Benchmark
+  public String sized() {
+    StringBuilder sb = new StringBuilder();
+    sizedDescriber.describeTo(sb, value, -1, maxCount);
+    return sb.toString();
+  }
+
+  @Benchmark
+  public String spliterator() {
+    StringBuilder sb = new StringBuilder();
+    spliteratorDescriber.describeTo(sb, value, -1, maxCount);
+    return sb.toString();
+  }
+
+  @Benchmark
+  public String stream() {
+    Stream<?> stream = (value instanceof Object[])
+                       ? Arrays.stream((Object[]) value)
+                       : ((Collection<?>) value).stream();
+    return Describe.describe(stream, -1, maxCount);
+  }
+
+  private static final class UnsizedIterableDescriber extends IterableDescriber {
+
+    @Override
+    protected int knownSize(Object value) {
+      return -1;
+    }
+  }
+
+  private static final class UnsizedArrayDescriber extends ArrayDescriber {
+
+    @Override
+    protected int knownSize(Object value) {
+      return -1;
+    }
+  }
+}
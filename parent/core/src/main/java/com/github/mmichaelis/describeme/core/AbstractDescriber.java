@@ -33,8 +33,16 @@ public abstract class AbstractDescriber implements InternalDescriber {
                                @Nullable Object value,
                                int maxDepth,
                                int maxCount) {
-    describeTo(appendable, value, maxCount,
-               new RecursiveDescriptionConsumer(appendable, maxDepth, maxCount));
+    describeTo(appendable, value, maxDepth, maxCount, DescriberProperties.MAX_LENGTH);
+  }
+
+  @Override
+  public final void describeTo(@Nonnull Appendable appendable,
+                               @Nullable Object value,
+                               int maxDepth,
+                               int maxCount,
+                               int maxLength) {
+    DescribeContext.describeTo(this, appendable, value, maxDepth, maxCount, maxLength);
   }
 
   @Override
@@ -47,7 +55,24 @@ public abstract class AbstractDescriber implements InternalDescriber {
       throw new DescriberNotApplicableException(
           format("Describer {0} not applicable to {1}.", getClass().getName(), value));
     }
-      internalDescribeTo(appendable, value, maxCount, recursiveMeAndOtherConsumer);
+    internalDescribeTo(appendable, value, maxCount, recursiveMeAndOtherConsumer);
+  }
+
+  /**
+   * <p>
+   * Signals if elements of the value being described are beyond the maximum depth. This is
+   * meant for describers which render elements on their own rather than passing them to the
+   * recursive consumer, like for elements of primitive arrays.
+   * </p>
+   *
+   * @param recursiveConsumer recursive consumer as passed to
+   *                          {@link #internalDescribeTo(Appendable, Object, int, BiConsumer)}
+   * @return {@code true} if elements must not be described anymore; {@code false} otherwise
+   */
+  protected static boolean isMaxDepthReached(
+      @Nonnull BiConsumer<Object, Object> recursiveConsumer) {
+    return (recursiveConsumer instanceof RecursiveDescriptionConsumer)
+           && ((RecursiveDescriptionConsumer) recursiveConsumer).isMaxDepthReached();
   }
 
   protected abstract void internalDescribeTo(@Nonnull Appendable appendable,
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.core;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.function.BiConsumer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Describes values by their fields, like {@code Person{name="Alice", age=42}}.
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+public abstract class AbstractFieldsDescriber extends FramedDescriber {
+
+  @Nullable
+  @Override
+  final DescriptionFrame startDescription(@Nonnull DescriptionSink sink, @Nullable Object value,
+                                          int maxCount,
+                                          @Nonnull BiConsumer<Object, Object> recursiveConsumer) {
+    assert value != null : "value must not be null. Did you call test() before?";
+    sink.append(typeName(value)).append('{');
+    return new FieldsFrame(this, sink, value, fieldCount(value), maxCount);
+  }
+
+  /**
+   * Name to start the description with, followed by the fields in braces.
+   */
+  @Nonnull
+  protected abstract String typeName(@Nonnull Object value);
+
+  protected abstract int fieldCount(@Nonnull Object value);
+
+  @Nonnull
+  protected abstract String fieldName(@Nonnull Object value, int index);
+
+  /**
+   * Value of the field at the given index, which is described recursively.
+   */
+  @Nullable
+  protected abstract Object fieldValue(@Nonnull Object value, int index);
+
+  private static final class FieldsFrame extends DescriptionFrame {
+
+    @Nonnull
+    private final AbstractFieldsDescriber describer;
+    @Nonnull
+    private final DescriptionSink sink;
+    @Nonnull
+    private final Object value;
+    private final int count;
+    private final int describedCount;
+    /**
+     * Index of the next field.
+     */
+    private int index;
+
+    private FieldsFrame(@Nonnull AbstractFieldsDescriber describer,
+                        @Nonnull DescriptionSink sink, @Nonnull Object value, int count,
+                        int maxCount) {
+      this.describer = describer;
+      this.sink = sink;
+      this.value = value;
+      this.count = count;
+      describedCount =
+          (maxCount > DescriberProperties.UNLIMITED) ? Math.min(count, maxCount) : count;
+    }
+
+    @Nonnull
+    @Override
+    Describer describer() {
+      return describer;
+    }
+
+    @Override
+    boolean step(@Nonnull BiConsumer<Object, Object> elementConsumer) {
+      if ((index >= describedCount) || sink.isExhausted()) {
+        return false;
+      }
+      if (index > 0) {
+        sink.append(", ");
+      }
+      sink.append(describer.fieldName(value, index)).append('=');
+      Object nested = describer.fieldValue(value, index);
+      index++;
+      elementConsumer.accept(value, nested);
+      return true;
+    }
+
+    @Override
+    void finish() {
+      if (describedCount < count) {
+        if (describedCount > 0) {
+          sink.append(", ");
+        }
+        sink.append(DescriberProperties.ELLIPSIS);
+        DescriberMetrics.truncated(describer);
+      }
+      sink.append('}');
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("describer", describer)
+          .add("value", value)
+          .add("count", count)
+          .add("index", index)
+          .toString();
+    }
+  }
+}
@@ -18,6 +18,9 @@ package com.github.mmichaelis.describeme.core;
 
 import com.google.common.base.MoreObjects;
 
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -25,66 +28,383 @@ import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import static com.github.mmichaelis.describeme.core.AppendableUtil.silentAppend;
+import static java.text.MessageFormat.format;
 
 /**
  * @since $$SINCE:2015-03-20$$
  */
-public abstract class AbstractStreamDescriber extends AbstractDescriber {
-
-  @Nonnull
-  private static Consumer<Object> ellipsisConsumer(@Nonnull Appendable appendable,
-                                                   @Nullable Object parentObject, int maxCount,
-                                                   @Nonnull BiConsumer<Object, Object> recursiveConsumer) {
-    return new EllipsisConsumer(appendable, parentObject, maxCount, recursiveConsumer);
-  }
+public abstract class AbstractStreamDescriber extends FramedDescriber {
 
+  @Nullable
   @Override
-  protected final void internalDescribeTo(@Nonnull Appendable appendable, @Nullable Object value,
+  final DescriptionFrame startDescription(@Nonnull DescriptionSink sink, @Nullable Object value,
                                           int maxCount,
                                           @Nonnull BiConsumer<Object, Object> recursiveConsumer) {
     assert value != null : "value must not be null. Did you call test() before?";
-    Stream<?> stream = valueAsStream(value);
-    if (maxCount > DescriberProperties.UNLIMITED) {
-      stream = stream.limit(maxCount + 1);
+    sink.append(openingBracket());
+    int threshold = parallelThreshold();
+    Spliterator<?> elements = null;
+    if (threshold > DescriberProperties.UNLIMITED) {
+      elements = valueAsSpliterator(value);
+      ParallelElementsDescription parallelDescription =
+          ParallelElementsDescription.parallelDescription(
+              this, threshold, elements, value, maxCount, recursiveConsumer);
+      if (parallelDescription != null) {
+        parallelDescription.invoke();
+        parallelDescription.appendTo(sink);
+        sink.append(closingBracket());
+        return null;
+      }
+    }
+    int size = knownSize(value);
+    if (size > DescriberProperties.UNLIMITED) {
+      return isRandomAccess(value)
+             ? new ElementsFrame(this, sink, value, size, null, null, maxCount)
+             : new ElementsFrame(this, sink, value, size, valueAsIterator(value), null, maxCount);
     }
-    silentAppend(appendable, "[");
-    stream.forEach(ellipsisConsumer(appendable, value, maxCount, recursiveConsumer));
-    silentAppend(appendable, "]");
+    return new ElementsFrame(this, sink, value, DescriberProperties.UNLIMITED, null,
+                             (elements == null) ? valueAsSpliterator(value) : elements, maxCount);
+  }
+
+  private void describeElement(@Nonnull DescriptionSink sink, @Nonnull Object parentObject,
+                               @Nullable Object element,
+                               @Nonnull BiConsumer<Object, Object> recursiveConsumer) {
+    int parts = partsPerElement();
+    for (int part = 0; part < parts; part++) {
+      if (part > 0) {
+        sink.append(partSeparator());
+      }
+      recursiveConsumer.accept(parentObject, elementPart(element, part));
+    }
+  }
+
+  /**
+   * <p>
+   * Number of elements of the value if known without iterating, like for collections. Elements
+   * of known number are described with plain loops rather than via spliterator, using
+   * {@link #elementAt(Object, int)} if the value {@link #isRandomAccess(Object) supports it}
+   * and {@link #valueAsIterator(Object)} otherwise.
+   * </p>
+   *
+   * @param value value to get the number of elements of
+   * @return number of elements; {@link DescriberProperties#UNLIMITED} (default) if unknown
+   */
+  protected int knownSize(@Nonnull Object value) {
+    return DescriberProperties.UNLIMITED;
+  }
+
+  /**
+   * <p>
+   * Signals if the elements of the value may be accessed by {@link #elementAt(Object, int)}.
+   * Only used if the {@link #knownSize(Object) size is known}.
+   * </p>
+   *
+   * @param value value to check
+   * @return {@code true} if elements may be accessed by index; {@code false} (default) otherwise
+   */
+  protected boolean isRandomAccess(@Nonnull Object value) {
+    return false;
+  }
+
+  /**
+   * <p>
+   * Get the element at the given index. Must be overridden if
+   * {@link #isRandomAccess(Object)} signals random access.
+   * </p>
+   *
+   * @param value value to get the element of
+   * @param index index of the element
+   * @return element
+   */
+  @Nullable
+  protected Object elementAt(@Nonnull Object value, int index) {
+    throw new UnsupportedOperationException(
+        format("{0} does not support random access.", getClass().getName()));
+  }
+
+  /**
+   * <p>
+   * Provide an iterator over the elements of the value. Only used if the
+   * {@link #knownSize(Object) size is known}.
+   * </p>
+   *
+   * @param value value to get the elements of
+   * @return iterator; defaults to an iterator over {@link #valueAsSpliterator(Object)}
+   */
+  @Nonnull
+  protected Iterator<?> valueAsIterator(@Nonnull Object value) {
+    return Spliterators.iterator(valueAsSpliterator(value));
+  }
+
+  /**
+   * <p>
+   * Character to start the list of elements with.
+   * </p>
+   *
+   * @return opening bracket; defaults to {@code [}
+   */
+  protected char openingBracket() {
+    return '[';
+  }
+
+  /**
+   * <p>
+   * Character to end the list of elements with.
+   * </p>
+   *
+   * @return closing bracket; defaults to {@code ]}
+   */
+  protected char closingBracket() {
+    return ']';
+  }
+
+  /**
+   * <p>
+   * Number of nested values each element consists of, like key and value of map entries. Each
+   * of them is described recursively, separated by the {@link #partSeparator() part
+   * separator}, so that maximum depth and recursion are taken care of.
+   * </p>
+   *
+   * @return number of parts; defaults to {@code 1}, i. e. the element itself
+   */
+  protected int partsPerElement() {
+    return 1;
+  }
+
+  /**
+   * <p>
+   * Get one of the nested values an element consists of.
+   * </p>
+   *
+   * @param element element to get the part of
+   * @param part    index of the part, less than {@link #partsPerElement()}
+   * @return part to describe; defaults to the element itself
+   */
+  @Nullable
+  protected Object elementPart(@Nullable Object element, int part) {
+    return element;
+  }
+
+  /**
+   * <p>
+   * Text to write between the parts of an element.
+   * </p>
+   *
+   * @return separator; defaults to none
+   */
+  @Nonnull
+  protected String partSeparator() {
+    return "";
   }
 
   @Nonnull
   protected abstract Stream<?> valueAsStream(@Nonnull Object value);
 
-  private static class EllipsisConsumer implements Consumer<Object> {
+  /**
+   * <p>
+   * Provide the elements of the value. Override this if the elements are available without
+   * creating a stream. Sized spliterators which can be split into sized parts enable to
+   * describe the elements in parallel, see {@link #parallelThreshold()}.
+   * </p>
+   *
+   * @param value value to get the elements of
+   * @return spliterator over the elements; defaults to the spliterator of
+   * {@link #valueAsStream(Object)}
+   */
+  @Nonnull
+  protected Spliterator<?> valueAsSpliterator(@Nonnull Object value) {
+    return valueAsStream(value).spliterator();
+  }
+
+  /**
+   * <p>
+   * Minimum number of elements to describe in parallel on the common fork-join pool. Only
+   * applies to elements which are sized when split, and not to length limited descriptions.
+   * The output is the same as when describing sequentially. Parallel description pays off for
+   * many elements which are expensive to describe.
+   * </p>
+   *
+   * @return threshold; {@link DescriberProperties#UNLIMITED} to always describe sequentially;
+   * defaults to {@link DescriberProperties#PARALLEL_THRESHOLD}
+   */
+  protected int parallelThreshold() {
+    return DescriberProperties.PARALLEL_THRESHOLD;
+  }
 
+  /**
+   * Describes elements one by one, one part of an element per step.
+   */
+  private static final class ElementsFrame extends DescriptionFrame implements Consumer<Object> {
+
+    @Nonnull
+    private final AbstractStreamDescriber describer;
     @Nonnull
-    private final Appendable appendable;
+    private final DescriptionSink sink;
+    @Nonnull
+    private final Object value;
+    private final int size;
+    /**
+     * Number of elements to describe if the size is known.
+     */
+    private final int describedSize;
+    @Nullable
+    private final Iterator<?> iterator;
     @Nullable
+    private final Spliterator<?> spliterator;
+    private final int maxCount;
+    private final int parts;
+    private int index;
+    /**
+     * Index of the next part of the current element.
+     */
+    private int part;
+    @Nullable
+    private Object element;
+
+    private ElementsFrame(@Nonnull AbstractStreamDescriber describer,
+                          @Nonnull DescriptionSink sink, @Nonnull Object value, int size,
+                          @Nullable Iterator<?> iterator, @Nullable Spliterator<?> spliterator,
+                          int maxCount) {
+      this.describer = describer;
+      this.sink = sink;
+      this.value = value;
+      this.size = size;
+      this.iterator = iterator;
+      this.spliterator = spliterator;
+      this.maxCount = maxCount;
+      describedSize =
+          (maxCount > DescriberProperties.UNLIMITED) ? Math.min(size, maxCount) : size;
+      parts = describer.partsPerElement();
+      part = parts;
+    }
+
+    @Nonnull
+    @Override
+    Describer describer() {
+      return describer;
+    }
+
+    @Override
+    boolean step(@Nonnull BiConsumer<Object, Object> elementConsumer) {
+      if ((part >= parts) && (sink.isExhausted() || !nextElement())) {
+        return false;
+      }
+      if (part > 0) {
+        sink.append(describer.partSeparator());
+      }
+      Object nested = describer.elementPart(element, part);
+      part++;
+      if (part >= parts) {
+        element = null;
+      }
+      elementConsumer.accept(value, nested);
+      return true;
+    }
+
+    /**
+     * Take the next element and write the separator preceding it.
+     *
+     * @return {@code false} if there are no more elements to describe
+     */
+    private boolean nextElement() {
+      if (spliterator == null) {
+        if ((index >= describedSize) || ((iterator != null) && !iterator.hasNext())) {
+          return false;
+        }
+        element = (iterator == null) ? describer.elementAt(value, index) : iterator.next();
+      } else if (!spliterator.tryAdvance(this)) {
+        return false;
+      }
+      if (index > 0) {
+        sink.append(", ");
+      }
+      if ((spliterator != null) && (maxCount > DescriberProperties.UNLIMITED)
+          && (index >= maxCount)) {
+        element = null;
+        sink.append(DescriberProperties.ELLIPSIS);
+        DescriberMetrics.truncated(describer);
+        return false;
+      }
+      index++;
+      part = 0;
+      return true;
+    }
+
+    @Override
+    public void accept(@Nullable Object obj) {
+      element = obj;
+    }
+
+    @Override
+    void finish() {
+      if ((spliterator == null) && (describedSize < size)) {
+        if (describedSize > 0) {
+          sink.append(", ");
+        }
+        sink.append(DescriberProperties.ELLIPSIS);
+        DescriberMetrics.truncated(describer);
+      }
+      sink.append(describer.closingBracket());
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("describer", describer)
+          .add("value", value)
+          .add("size", size)
+          .add("index", index)
+          .add("part", part)
+          .add("maxCount", maxCount)
+          .toString();
+    }
+  }
+
+  /**
+   * Describes elements separated by comma and replaces the element at index {@code maxCount}
+   * by an ellipsis.
+   */
+  static final class EllipsisConsumer implements Consumer<Object> {
+
+    @Nonnull
+    private final AbstractStreamDescriber describer;
+    @Nonnull
+    private final DescriptionSink sink;
+    @Nonnull
     private final Object parentObject;
     private final int maxCount;
     @Nonnull
     private final BiConsumer<Object, Object> recursiveConsumer;
-    private int count;
+    private long count;
 
-    EllipsisConsumer(@Nonnull Appendable appendable, @Nullable Object parentObject, int maxCount,
+    EllipsisConsumer(@Nonnull AbstractStreamDescriber describer, @Nonnull DescriptionSink sink,
+                     @Nonnull Object parentObject, long firstIndex, int maxCount,
                      @Nonnull BiConsumer<Object, Object> recursiveConsumer) {
-      this.appendable = appendable;
+      this.describer = describer;
+      this.sink = sink;
       this.parentObject = parentObject;
       this.maxCount = maxCount;
       this.recursiveConsumer = recursiveConsumer;
-      count = 0;
+      count = firstIndex;
+    }
+
+    /**
+     * @return {@code true} if the ellipsis has been written and remaining elements are skipped
+     */
+    boolean isDone() {
+      return (maxCount > DescriberProperties.UNLIMITED) && (count > maxCount);
     }
 
     @Override
     public void accept(@Nullable Object obj) {
       if (count > 0) {
-        silentAppend(appendable, ", ");
+        sink.append(", ");
       }
       if ((maxCount <= DescriberProperties.UNLIMITED) || (count < maxCount)) {
-        recursiveConsumer.accept(parentObject, obj);
+        describer.describeElement(sink, parentObject, obj, recursiveConsumer);
       } else {
-        silentAppend(appendable, DescriberProperties.ELLIPSIS);
+        sink.append(DescriberProperties.ELLIPSIS);
+        DescriberMetrics.truncated(describer);
       }
       count++;
     }
@@ -92,7 +412,8 @@ public abstract class AbstractStreamDescriber extends AbstractDescriber {
     @Override
     public String toString() {
       return MoreObjects.toStringHelper(this)
-          .add("appendable", appendable)
+          .add("describer", describer)
+          .add("sink", sink)
           .add("parentObject", parentObject)
           .add("count", count)
           .add("maxCount", maxCount)
@@ -33,11 +33,26 @@ public final class DefaultDescriber extends AbstractDescriber {
     return (value != null) && value.getClass().isArray();
   }
 
+  @Nonnull
+  private static String arrayToString(@Nonnull Object array) {
+    if (array instanceof Object[]) {
+      return deepToString((Object[]) array);
+    }
+    // Wrap primitive array, so that deepToString() takes care of the component type.
+    String wrapped = deepToString(new Object[]{array});
+    return wrapped.substring(1, wrapped.length() - 1);
+  }
+
   @Override
   public boolean test(@Nullable Object value) {
     return true;
   }
 
+  @Override
+  public boolean isValueDependent() {
+    return false;
+  }
+
   @Override
   protected void internalDescribeTo(@Nonnull Appendable appendable,
                                     @Nullable Object value,
@@ -47,8 +62,8 @@ public final class DefaultDescriber extends AbstractDescriber {
     // truncation at all. And the ideal solution of this default implementation is that you
     // can just use the default rather than implementing your own Describer.
     String stringValue =
-        isArray(value) ? deepToString((Object[]) value) : valueOf(value);
-    AppendableUtil.silentAppend(appendable, stringValue);
+        isArray(value) ? arrayToString(value) : valueOf(value);
+    DescriptionSink.sinkFor(appendable).append(stringValue);
   }
 
 }
@@ -16,6 +16,9 @@
 
 package com.github.mmichaelis.describeme.core;
 
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
 import java.util.function.BiConsumer;
 
 import javax.annotation.Nonnull;
@@ -43,6 +46,117 @@ public final class Describe {
     rootDescriber().describeTo(appendable, value, maxDepth, maxCount);
   }
 
+  /**
+   * <p>
+   * Describe the given value with at most {@code maxLength} characters. Once the budget is
+   * used up, the description ends with {@link DescriberProperties#ELLIPSIS} and no further
+   * elements are described, so that the effort is bounded by {@code maxLength} rather than by
+   * the size of the value.
+   * </p>
+   *
+   * @param appendable appendable to write to
+   * @param value      value to describe
+   * @param maxDepth   maximum depth of nested values to describe
+   * @param maxCount   maximum number of elements to describe
+   * @param maxLength  maximum number of characters to write, not counting the final ellipsis;
+   *                   {@link DescriberProperties#UNLIMITED} for no limit
+   */
+  public static void describeTo(@Nonnull Appendable appendable, @Nullable Object value,
+                                int maxDepth, int maxCount, int maxLength) {
+    rootDescriber().describeTo(appendable, value, maxDepth, maxCount, maxLength);
+  }
+
+  /**
+   * <p>
+   * Describe the given value to a channel, for example to a file. Characters are encoded in
+   * chunks with pooled buffers and encoder, so that even long descriptions are
+   * written with bounded memory and without creating an intermediate string.
+   * </p>
+   *
+   * @param channel  blocking channel to write to; it is not closed
+   * @param charset  charset to encode the description with
+   * @param value    value to describe
+   * @param maxDepth maximum depth of nested values to describe
+   * @param maxCount maximum number of elements to describe
+   * @see #describeTo(WritableByteChannel, Charset, Object, int, int, int)
+   */
+  public static void describeTo(@Nonnull WritableByteChannel channel, @Nonnull Charset charset,
+                                @Nullable Object value, int maxDepth, int maxCount) {
+    describeTo(channel, charset, value, maxDepth, maxCount, DescriberProperties.MAX_LENGTH);
+  }
+
+  /**
+   * <p>
+   * Describe the given value to a channel with at most {@code maxLength} characters.
+   * </p>
+   *
+   * @param channel   blocking channel to write to; it is not closed
+   * @param charset   charset to encode the description with
+   * @param value     value to describe
+   * @param maxDepth  maximum depth of nested values to describe
+   * @param maxCount  maximum number of elements to describe
+   * @param maxLength maximum number of characters to write, not counting the final ellipsis;
+   *                  {@link DescriberProperties#UNLIMITED} for no limit
+   * @throws DescriberIOException     if writing to the channel fails
+   * @throws IllegalArgumentException if the channel is non-blocking
+   */
+  public static void describeTo(@Nonnull WritableByteChannel channel, @Nonnull Charset charset,
+                                @Nullable Object value, int maxDepth, int maxCount,
+                                int maxLength) {
+    describeEncoded(EncodingSink.encodingSink(channel, charset), value, maxDepth, maxCount,
+                    maxLength);
+  }
+
+  /**
+   * <p>
+   * Describe the given value to a stream. Other than writing via
+   * {@link java.io.OutputStreamWriter}, characters are encoded in chunks with a buffer and
+   * encoder pooled per thread, without any locking.
+   * </p>
+   *
+   * @param out      stream to write to; it is neither flushed nor closed
+   * @param charset  charset to encode the description with
+   * @param value    value to describe
+   * @param maxDepth maximum depth of nested values to describe
+   * @param maxCount maximum number of elements to describe
+   * @see #describeTo(OutputStream, Charset, Object, int, int, int)
+   */
+  public static void describeTo(@Nonnull OutputStream out, @Nonnull Charset charset,
+                                @Nullable Object value, int maxDepth, int maxCount) {
+    describeTo(out, charset, value, maxDepth, maxCount, DescriberProperties.MAX_LENGTH);
+  }
+
+  /**
+   * <p>
+   * Describe the given value to a stream with at most {@code maxLength} characters.
+   * </p>
+   *
+   * @param out       stream to write to; it is neither flushed nor closed
+   * @param charset   charset to encode the description with
+   * @param value     value to describe
+   * @param maxDepth  maximum depth of nested values to describe
+   * @param maxCount  maximum number of elements to describe
+   * @param maxLength maximum number of characters to write, not counting the final ellipsis;
+   *                  {@link DescriberProperties#UNLIMITED} for no limit
+   * @throws DescriberIOException if writing to the stream fails
+   */
+  public static void describeTo(@Nonnull OutputStream out, @Nonnull Charset charset,
+                                @Nullable Object value, int maxDepth, int maxCount,
+                                int maxLength) {
+    describeEncoded(EncodingSink.encodingSink(out, charset), value, maxDepth, maxCount,
+                    maxLength);
+  }
+
+  private static void describeEncoded(@Nonnull EncodingSink sink, @Nullable Object value,
+                                      int maxDepth, int maxCount, int maxLength) {
+    try {
+      rootDescriber().describeTo(sink, value, maxDepth, maxCount, maxLength);
+      sink.finish();
+    } finally {
+      sink.release();
+    }
+  }
+
   static void describeTo(@Nonnull Appendable appendable, @Nullable Object value, int maxCount, @Nonnull
                          BiConsumer<Object, Object> recursiveDescriptionConsumer) {
     rootDescriber().describeTo(appendable, value, maxCount, recursiveDescriptionConsumer);
@@ -50,9 +164,96 @@ public final class Describe {
 
   @Nonnull
   public static String describe(@Nullable Object value, int maxDepth, int maxCount) {
-    StringBuilder sb = new StringBuilder();
-    describeTo(sb, value, maxDepth, maxCount);
-    return sb.toString();
+    return describe(value, maxDepth, maxCount, DescriberProperties.MAX_LENGTH);
+  }
+
+  /**
+   * <p>
+   * Describe the given value with at most {@code maxLength} characters.
+   * </p>
+   *
+   * @param value     value to describe
+   * @param maxDepth  maximum depth of nested values to describe
+   * @param maxCount  maximum number of elements to describe
+   * @param maxLength maximum number of characters, not counting the final ellipsis
+   * @return description
+   * @see #describeTo(Appendable, Object, int, int, int)
+   */
+  @Nonnull
+  public static String describe(@Nullable Object value, int maxDepth, int maxCount, int maxLength) {
+    return DescribeContext.describe(rootDescriber(), value, maxDepth, maxCount, maxLength);
+  }
+
+  /**
+   * <p>
+   * Provide a description which is not rendered before it is requested, e. g. when passed
+   * as argument to a logging framework.
+   * </p>
+   *
+   * @param value    value to describe
+   * @param maxDepth maximum depth of nested values to describe
+   * @param maxCount maximum number of elements to describe
+   * @return lazy description
+   * @see LazyDescription
+   */
+  @Nonnull
+  public static LazyDescription lazy(@Nullable Object value, int maxDepth, int maxCount) {
+    return lazy(value, maxDepth, maxCount, DescriberProperties.MAX_LENGTH);
+  }
+
+  /**
+   * <p>
+   * Provide a description of at most {@code maxLength} characters which is not rendered before
+   * it is requested.
+   * </p>
+   *
+   * @param value     value to describe
+   * @param maxDepth  maximum depth of nested values to describe
+   * @param maxCount  maximum number of elements to describe
+   * @param maxLength maximum number of characters, not counting the final ellipsis
+   * @return lazy description
+   * @see LazyDescription
+   */
+  @Nonnull
+  public static LazyDescription lazy(@Nullable Object value, int maxDepth, int maxCount,
+                                     int maxLength) {
+    return new LazyDescription(value, maxDepth, maxCount, maxLength);
+  }
+
+  /**
+   * <p>
+   * Provide a reader which describes the given value while being read, e. g. to only read the
+   * beginning of a description or to stream it to a bounded transport.
+   * </p>
+   *
+   * @param value    value to describe
+   * @param maxDepth maximum depth of nested values to describe
+   * @param maxCount maximum number of elements to describe
+   * @return reader to read the description from
+   * @see DescriptionReader
+   */
+  @Nonnull
+  public static DescriptionReader reader(@Nullable Object value, int maxDepth, int maxCount) {
+    return reader(value, maxDepth, maxCount, DescriberProperties.MAX_LENGTH);
+  }
+
+  /**
+   * <p>
+   * Provide a reader which describes the given value with at most {@code maxLength} characters
+   * while being read.
+   * </p>
+   *
+   * @param value     value to describe
+   * @param maxDepth  maximum depth of nested values to describe
+   * @param maxCount  maximum number of elements to describe
+   * @param maxLength maximum number of characters, not counting the final ellipsis
+   * @return reader to read the description from
+   * @see DescriptionReader
+   */
+  @Nonnull
+  public static DescriptionReader reader(@Nullable Object value, int maxDepth, int maxCount,
+                                         int maxLength) {
+    return new DescriptionReader(value, maxDepth, maxCount, maxLength);
   }
 
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.core;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.cache.Cache;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * State of one description, pooled per thread. Nested descriptions get a context of their
+ * own.
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+final class DescribeContext {
+
+  /**
+   * Larger buffers are not kept, to bound the memory retained by threads.
+   */
+  private static final int MAX_RETAINED_CAPACITY = 8 * 1024;
+  private static final ThreadLocal<DescribeContext> POOL =
+      ThreadLocal.withInitial(DescribeContext::new);
+
+  @Nonnull
+  private StringBuilder builder;
+  @Nonnull
+  private DescriptionSink builderSink;
+  @Nullable
+  private RecursiveDescriptionConsumer consumer;
+  private boolean inUse;
+
+  private DescribeContext() {
+    builder = new StringBuilder();
+    builderSink = DescriptionSink.sinkFor(builder);
+  }
+
+  static void describeTo(@Nonnull InternalDescriber describer, @Nonnull Appendable appendable,
+                         @Nullable Object value, int maxDepth, int maxCount, int maxLength) {
+    if (isMemoizable(describer, value)) {
+      DescriptionSink.sinkFor(appendable)
+          .append(describeMemoized(describer, value, maxDepth, maxCount, maxLength));
+      return;
+    }
+    DescribeContext context = acquire();
+    try {
+      context.describe(describer, DescriptionSink.sinkFor(appendable), value, maxDepth, maxCount,
+                       maxLength);
+    } finally {
+      context.release();
+    }
+  }
+
+  @Nonnull
+  static String describe(@Nonnull InternalDescriber describer, @Nullable Object value,
+                         int maxDepth, int maxCount, int maxLength) {
+    if (isMemoizable(describer, value)) {
+      return describeMemoized(describer, value, maxDepth, maxCount, maxLength);
+    }
+    return describeOnce(describer, value, maxDepth, maxCount, maxLength);
+  }
+
+  /**
+   * Memoization only applies to values described as a whole.
+   */
+  private static boolean isMemoizable(@Nonnull InternalDescriber describer,
+                                      @Nullable Object value) {
+    return DescriptionMemo.isEnabled()
+           && (describer == RootDescriber.rootDescriber())
+           && DescriptionMemo.isMemoizable(value);
+  }
+
+  @Nonnull
+  private static String describeMemoized(@Nonnull InternalDescriber describer,
+                                         @Nonnull Object value, int maxDepth, int maxCount,
+                                         int maxLength) {
+    Cache<Object, String> descriptions =
+        DescriptionMemo.descriptions(maxDepth, maxCount, maxLength);
+    String description = descriptions.getIfPresent(value);
+    if (description == null) {
+      description = describeOnce(describer, value, maxDepth, maxCount, maxLength);
+      descriptions.put(value, description);
+    }
+    return description;
+  }
+
+  @Nonnull
+  private static String describeOnce(@Nonnull InternalDescriber describer,
+                                     @Nullable Object value, int maxDepth, int maxCount,
+                                     int maxLength) {
+    DescribeContext context = acquire();
+    try {
+      context.describe(describer, context.builderSink, value, maxDepth, maxCount, maxLength);
+      return context.builder.toString();
+    } finally {
+      context.release();
+    }
+  }
+
+  @Nonnull
+  private static DescribeContext acquire() {
+    DescribeContext pooled = POOL.get();
+    DescribeContext context = pooled.inUse ? new DescribeContext() : pooled;
+    context.inUse = true;
+    return context;
+  }
+
+  private void describe(@Nonnull InternalDescriber describer, @Nonnull DescriptionSink sink,
+                        @Nullable Object value, int maxDepth, int maxCount, int maxLength) {
+    RecursiveDescriptionConsumer recursiveConsumer = consumer;
+    if (recursiveConsumer == null) {
+      recursiveConsumer = new RecursiveDescriptionConsumer(sink, maxDepth, maxCount, maxLength);
+      consumer = recursiveConsumer;
+    } else {
+      recursiveConsumer.reset(sink, maxDepth, maxCount, maxLength);
+    }
+    describer.describeTo(recursiveConsumer.sink(), value, maxCount, recursiveConsumer);
+  }
+
+  private void release() {
+    if (builder.capacity() > MAX_RETAINED_CAPACITY) {
+      builder = new StringBuilder();
+      builderSink = DescriptionSink.sinkFor(builder);
+    } else {
+      builder.setLength(0);
+    }
+    if (consumer != null) {
+      consumer.detach(builderSink);
+    }
+    inUse = false;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("capacity", builder.capacity())
+        .add("consumer", consumer)
+        .add("inUse", inUse)
+        .toString();
+  }
+}
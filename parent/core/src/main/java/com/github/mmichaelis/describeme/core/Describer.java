@@ -28,7 +28,8 @@ public interface Describer extends Predicate<Object> {
 
   /**
    * <p>
-   * Validate if this describer is applicable to the given type.
+   * Validate if this describer is applicable to the given type. The result is only cached per
+   * class if the describer is not {@link #isValueDependent() value dependent}.
    * </p>
    *
    * @param value object to validate
@@ -37,6 +38,36 @@ public interface Describer extends Predicate<Object> {
   @Override
   boolean test(@Nullable Object value);
 
+  /**
+   * <p>
+   * Signals if the result of {@link #test(Object)} depends on the value itself rather than on its
+   * class only. Results of describers which are not value dependent are cached per class, so
+   * that {@link #test(Object)} is only called once for each class. Override this method to
+   * return {@code false} if {@link #test(Object)} only checks the type of the value, as all
+   * describers of this library do.
+   * </p>
+   *
+   * @return {@code true} (default) if {@link #test(Object)} has to be called for each value;
+   * {@code false} if the result is the same for all values of the same class
+   */
+  default boolean isValueDependent() {
+    return true;
+  }
+
+  /**
+   * <p>
+   * Signals that the description of a value never changes, for example as the values this
+   * describer applies to are immutable, including all values nested within. Descriptions by
+   * stable describers may be memoized, see {@link DescriptionMemo}.
+   * </p>
+   *
+   * @return {@code true} if descriptions of the same value may be reused; {@code false}
+   * (default) if values have to be described each time
+   */
+  default boolean isStable() {
+    return false;
+  }
+
   default void describeTo(@Nonnull Appendable appendable, @Nullable Object value) {
     describeTo(appendable, value, DescriberProperties.MAX_DEPTH);
   }
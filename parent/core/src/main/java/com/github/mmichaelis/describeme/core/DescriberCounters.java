@@ -0,0 +1,90 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.core;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Striped counters of one describer class.
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+final class DescriberCounters implements DescriberCountersMXBean {
+
+  @Nonnull
+  private final String describerName;
+  private final LongAdder invocations = new LongAdder();
+  private final LongAdder nanos = new LongAdder();
+  private final LongAdder characters = new LongAdder();
+  private final LongAdder truncations = new LongAdder();
+
+  DescriberCounters(@Nonnull String describerName) {
+    this.describerName = describerName;
+  }
+
+  void described(long spentNanos, long writtenCharacters) {
+    invocations.increment();
+    nanos.add(spentNanos);
+    characters.add(writtenCharacters);
+  }
+
+  void truncated() {
+    truncations.increment();
+  }
+
+  void reset() {
+    invocations.reset();
+    nanos.reset();
+    characters.reset();
+    truncations.reset();
+  }
+
+  @Override
+  public long getInvocations() {
+    return invocations.sum();
+  }
+
+  @Override
+  public long getNanos() {
+    return nanos.sum();
+  }
+
+  @Override
+  public long getCharacters() {
+    return characters.sum();
+  }
+
+  @Override
+  public long getTruncations() {
+    return truncations.sum();
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("describerName", describerName)
+        .add("invocations", invocations)
+        .add("nanos", nanos)
+        .add("characters", characters)
+        .add("truncations", truncations)
+        .toString();
+  }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.core;
+
+/**
+ * Counters of one describer class, registered as
+ * {@code com.github.mmichaelis.describeme:type=Describer,name=<class name>}.
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+public interface DescriberCountersMXBean {
+
+  long getInvocations();
+
+  long getNanos();
+
+  long getCharacters();
+
+  long getTruncations();
+}
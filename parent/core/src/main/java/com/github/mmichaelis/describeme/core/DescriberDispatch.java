@@ -0,0 +1,148 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.core;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Index of describers by the types they {@link Describes declare}.
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+final class DescriberDispatch {
+
+  private static final DescriberEntry[] NO_ENTRIES = {};
+
+  @Nonnull
+  private final Map<Class<?>, DescriberEntry[]> byType;
+  @Nonnull
+  private final DescriberEntry[] anyType;
+  @Nonnull
+  private final DescriberEntry[] unindexed;
+
+  DescriberDispatch(@Nonnull Iterable<DescriberEntry> entries) {
+    Map<Class<?>, List<DescriberEntry>> collected = new HashMap<>();
+    List<DescriberEntry> any = new ArrayList<>();
+    List<DescriberEntry> notIndexed = new ArrayList<>();
+    for (DescriberEntry entry : entries) {
+      if (!entry.isIndexed()) {
+        notIndexed.add(entry);
+        continue;
+      }
+      for (Class<?> type : entry.types()) {
+        if (type == Object.class) {
+          any.add(entry);
+        } else {
+          collected.computeIfAbsent(type, t -> new ArrayList<>()).add(entry);
+        }
+      }
+    }
+    byType = new HashMap<>(collected.size());
+    collected.forEach((type, list) -> byType.put(type, list.toArray(NO_ENTRIES)));
+    anyType = any.toArray(NO_ENTRIES);
+    unindexed = notIndexed.toArray(NO_ENTRIES);
+  }
+
+  /**
+   * Candidates to describe values of the given class, each at most once. Describers not indexed
+   * come first, then the supertypes are searched breadth-first, with describers of
+   * {@link Describable} right after those of annotated classes themselves. Describers of
+   * {@code Object} come last. Arrays of references count as direct subtypes of
+   * {@code Object[]}.
+   *
+   * @param type class of the values; {@code null} for {@code null} values
+   */
+  @Nonnull
+  DescriberEntry[] candidatesFor(@Nullable Class<?> type) {
+    Collection<DescriberEntry> candidates = new LinkedHashSet<>();
+    Collections.addAll(candidates, unindexed);
+    if (type == null) {
+      Collections.addAll(candidates, anyType);
+      return candidates.toArray(NO_ENTRIES);
+    }
+    Set<Class<?>> visited = new HashSet<>();
+    Queue<Class<?>> queue = new ArrayDeque<>();
+    queue.add(type);
+    visited.add(type);
+    while (!queue.isEmpty()) {
+      Class<?> current = queue.remove();
+      addDeclared(candidates, current);
+      if ((current == type) && type.isAnnotationPresent(Describable.class)) {
+        addDeclared(candidates, Describable.class);
+      }
+      for (Class<?> supertype : supertypesOf(current)) {
+        if ((supertype != Object.class) && visited.add(supertype)) {
+          queue.add(supertype);
+        }
+      }
+    }
+    for (DescriberEntry entry : anyType) {
+      candidates.add(entry);
+    }
+    return candidates.toArray(NO_ENTRIES);
+  }
+
+  private void addDeclared(@Nonnull Collection<DescriberEntry> candidates,
+                           @Nonnull Class<?> type) {
+    DescriberEntry[] declared = byType.get(type);
+    if (declared != null) {
+      for (DescriberEntry entry : declared) {
+        candidates.add(entry);
+      }
+    }
+  }
+
+  @Nonnull
+  private static List<Class<?>> supertypesOf(@Nonnull Class<?> type) {
+    List<Class<?>> supertypes = new ArrayList<>();
+    if (type.isArray() && !type.getComponentType().isPrimitive() && (type != Object[].class)) {
+      supertypes.add(Object[].class);
+    }
+    Class<?> superclass = type.getSuperclass();
+    if (superclass != null) {
+      supertypes.add(superclass);
+    }
+    for (Class<?> anInterface : type.getInterfaces()) {
+      supertypes.add(anInterface);
+    }
+    return supertypes;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("types", byType.size())
+        .add("anyType", anyType.length)
+        .add("unindexed", unindexed.length)
+        .toString();
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.core;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.Arrays;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import static java.text.MessageFormat.format;
+
+/**
+ * Registered describer along with the types of values it applies to, instantiated on first use.
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+final class DescriberEntry {
+
+  /**
+   * Types of describers which do not declare their types.
+   */
+  static final Class<?>[] ANY_TYPE = {Object.class};
+
+  @Nonnull
+  private final String name;
+  @Nonnull
+  private final Class<?>[] types;
+  @Nullable
+  private final ClassLoader classLoader;
+  private final boolean indexed;
+  @Nullable
+  private volatile Describer describer;
+
+  DescriberEntry(@Nonnull String name, @Nonnull Class<?>[] types,
+                 @Nullable ClassLoader classLoader) {
+    this(name, types, classLoader, true);
+  }
+
+  private DescriberEntry(@Nonnull String name, @Nonnull Class<?>[] types,
+                         @Nullable ClassLoader classLoader, boolean indexed) {
+    this.name = name;
+    this.types = types.clone();
+    this.classLoader = classLoader;
+    this.indexed = indexed;
+  }
+
+  private DescriberEntry(@Nonnull Describer describer) {
+    this(describer.getClass().getName(), ANY_TYPE, null, false);
+    this.describer = describer;
+  }
+
+  /**
+   * Entry of a describer registered as provider only, which applies to all values.
+   */
+  @Nonnull
+  static DescriberEntry unindexed(@Nonnull String name, @Nullable ClassLoader classLoader) {
+    return new DescriberEntry(name, ANY_TYPE, classLoader, false);
+  }
+
+  @Nonnull
+  static DescriberEntry of(@Nonnull Describer describer) {
+    return new DescriberEntry(describer);
+  }
+
+  @Nonnull
+  String name() {
+    return name;
+  }
+
+  /**
+   * Types of values the describer may apply to; not to be modified.
+   */
+  @Nonnull
+  Class<?>[] types() {
+    return types;
+  }
+
+  boolean isIndexed() {
+    return indexed;
+  }
+
+  /**
+   * @throws DescriberException if the describer cannot be instantiated
+   */
+  @Nonnull
+  Describer describer() {
+    Describer current = describer;
+    if (current == null) {
+      synchronized (this) {
+        current = describer;
+        if (current == null) {
+          current = instantiate();
+          describer = current;
+        }
+      }
+    }
+    return current;
+  }
+
+  @Nonnull
+  private Describer instantiate() {
+    try {
+      return Class.forName(name, true, classLoader)
+          .asSubclass(Describer.class)
+          .getConstructor()
+          .newInstance();
+    } catch (ReflectiveOperationException | ClassCastException | LinkageError e) {
+      throw new DescriberException(format("Unable to instantiate describer {0}.", name), e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("name", name)
+        .add("types", Arrays.toString(types))
+        .add("indexed", indexed)
+        .add("describer", describer)
+        .toString();
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.core;
+
+import com.google.common.base.MoreObjects;
+
+import org.slf4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+
+import static java.text.MessageFormat.format;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Reads the describer index {@value #INDEX} generated by the annotation processor. Each line
+ * holds the order, the describer class and the binary names of the types it applies to:
+ * <pre>
+ * 300 com.example.IterableDescriber java.lang.Iterable
+ * </pre>
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+final class DescriberIndex {
+
+  static final String INDEX = "META-INF/describeme/describers.index";
+  private static final String PROVIDERS = "META-INF/services/" + Describer.class.getName();
+  private static final Logger LOG = getLogger(DescriberIndex.class);
+
+  private DescriberIndex() {
+  }
+
+  /**
+   * Read all indexes and provider configuration files visible to the given class loader.
+   * Describers registered as providers only are appended.
+   *
+   * @return describers in order of precedence; empty if there is no index at all
+   * @throws DescriberIOException if an index cannot be read
+   */
+  @Nonnull
+  static List<DescriberEntry> load(@Nonnull ClassLoader classLoader) {
+    try {
+      List<IndexLine> lines = new ArrayList<>();
+      for (URL url : resources(classLoader, INDEX)) {
+        readIndex(url, classLoader, lines);
+      }
+      if (lines.isEmpty()) {
+        return Collections.emptyList();
+      }
+      // Stable sort: duplicates keep the order of the class path.
+      lines.sort(Comparator.comparingInt((IndexLine line) -> line.order)
+                     .thenComparing(line -> line.entry.name()));
+      List<DescriberEntry> entries = new ArrayList<>();
+      Set<String> names = new HashSet<>();
+      for (IndexLine line : lines) {
+        if (names.add(line.entry.name())) {
+          entries.add(line.entry);
+        }
+      }
+      for (URL url : resources(classLoader, PROVIDERS)) {
+        for (String name : readProviders(url)) {
+          if (names.add(name)) {
+            entries.add(DescriberEntry.unindexed(name, classLoader));
+          }
+        }
+      }
+      return entries;
+    } catch (IOException e) {
+      throw new DescriberIOException(format("Unable to read describer index {0}.", INDEX), e);
+    }
+  }
+
+  @Nonnull
+  private static List<URL> resources(@Nonnull ClassLoader classLoader, @Nonnull String name)
+      throws IOException {
+    return Collections.list(classLoader.getResources(name));
+  }
+
+  private static void readIndex(@Nonnull URL url, @Nonnull ClassLoader classLoader,
+                                @Nonnull List<IndexLine> lines) throws IOException {
+    List<String> content = readLines(url);
+    for (int i = 0; i < content.size(); i++) {
+      String line = content.get(i);
+      if (line.isEmpty()) {
+        continue;
+      }
+      String[] fields = line.split("\\s+");
+      int order;
+      try {
+        order = Integer.parseInt(fields[0]);
+      } catch (NumberFormatException e) {
+        throw new DescriberException(
+            format("Invalid order in line {0} of {1}: {2}", i + 1, url, line), e);
+      }
+      if (fields.length < 3) {
+        throw new DescriberException(
+            format("Missing describer or types in line {0} of {1}: {2}", i + 1, url, line));
+      }
+      List<Class<?>> types = new ArrayList<>(fields.length - 2);
+      for (int f = 2; f < fields.length; f++) {
+        try {
+          types.add(Class.forName(fields[f], false, classLoader));
+        } catch (ClassNotFoundException | LinkageError e) {
+          LOG.debug("Type {} of describer {} not available.", fields[f], fields[1], e);
+        }
+      }
+      if (!types.isEmpty()) {
+        lines.add(new IndexLine(order, new DescriberEntry(
+            fields[1], types.toArray(new Class<?>[types.size()]), classLoader)));
+      }
+    }
+  }
+
+  @Nonnull
+  private static List<String> readProviders(@Nonnull URL url) throws IOException {
+    List<String> names = new ArrayList<>();
+    for (String line : readLines(url)) {
+      if (!line.isEmpty()) {
+        names.add(line);
+      }
+    }
+    return names;
+  }
+
+  /**
+   * Read lines without comments, which start with {@code #}, and surrounding whitespace.
+   */
+  @Nonnull
+  private static List<String> readLines(@Nonnull URL url) throws IOException {
+    List<String> lines = new ArrayList<>();
+    try (BufferedReader reader = new BufferedReader(
+        new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+      for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+        int comment = line.indexOf('#');
+        lines.add(((comment < 0) ? line : line.substring(0, comment)).trim());
+      }
+    }
+    return lines;
+  }
+
+  private static final class IndexLine {
+
+    private final int order;
+    @Nonnull
+    private final DescriberEntry entry;
+
+    private IndexLine(int order, @Nonnull DescriberEntry entry) {
+      this.order = order;
+      this.entry = entry;
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("order", order)
+          .add("entry", entry)
+          .toString();
+    }
+  }
+}
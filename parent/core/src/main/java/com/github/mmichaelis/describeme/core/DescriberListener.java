@@ -0,0 +1,58 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.core;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Listener to events of descriptions if metrics are enabled. Called on the hot path from any
+ * thread, thus must be fast and thread-safe.
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+public interface DescriberListener {
+
+  /**
+   * A describer described a value, including its nested values.
+   */
+  default void described(@Nonnull Describer describer, long nanos, long characters) {
+  }
+
+  /**
+   * A describer omitted elements beyond the maximum count.
+   */
+  default void truncated(@Nonnull Describer describer) {
+  }
+
+  /**
+   * A description was cut off as it reached its maximum length.
+   */
+  default void lengthExhausted() {
+  }
+
+  /**
+   * A value was not described again as it contains itself.
+   */
+  default void cycleDetected() {
+  }
+
+  /**
+   * A value was not described as it is beyond the maximum depth.
+   */
+  default void maxDepthReached() {
+  }
+}
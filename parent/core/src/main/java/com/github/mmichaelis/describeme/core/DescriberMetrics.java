@@ -0,0 +1,197 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.core;
+
+import com.google.common.base.MoreObjects;
+
+import org.slf4j.Logger;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nonnull;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import static java.util.Objects.requireNonNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Opt-in metrics of describers, enabled by {@link DescriberProperties#METRICS_ENABLED} and
+ * exposed as MXBeans and to {@link DescriberListener listeners}.
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+public final class DescriberMetrics {
+
+  private static final Logger LOG = getLogger(DescriberMetrics.class);
+  private static final String DOMAIN = "com.github.mmichaelis.describeme";
+
+  private static final Collection<DescriberListener> LISTENERS = new CopyOnWriteArrayList<>();
+  /**
+   * Ensures that only one instance per describer class is registered as MXBean, even if
+   * {@link #COUNTERS} computes the counters concurrently.
+   */
+  private static final ConcurrentMap<String, DescriberCounters> ALL_COUNTERS =
+      new ConcurrentHashMap<>();
+  private static final ClassValue<DescriberCounters> COUNTERS =
+      new ClassValue<DescriberCounters>() {
+        @Override
+        protected DescriberCounters computeValue(Class<?> type) {
+          return ALL_COUNTERS.computeIfAbsent(type.getName(), name -> {
+            DescriberCounters counters = new DescriberCounters(name);
+            register(counters, "type=Describer,name=" + ObjectName.quote(name));
+            return counters;
+          });
+        }
+      };
+  private static final Totals TOTALS = new Totals();
+
+  static {
+    if (DescriberProperties.METRICS_ENABLED) {
+      register(TOTALS, "type=Metrics");
+    }
+  }
+
+  private DescriberMetrics() {
+  }
+
+  /**
+   * Add a listener to be notified on events of descriptions, as long as metrics are enabled.
+   */
+  public static void addListener(@Nonnull DescriberListener listener) {
+    LISTENERS.add(requireNonNull(listener, "listener must be given."));
+  }
+
+  public static void removeListener(@Nonnull DescriberListener listener) {
+    LISTENERS.remove(listener);
+  }
+
+  /**
+   * @return counters of the given describer class; all zero if metrics are disabled
+   */
+  @Nonnull
+  public static DescriberCountersMXBean countersFor(
+      @Nonnull Class<? extends Describer> describerType) {
+    return COUNTERS.get(describerType);
+  }
+
+  /**
+   * @return counters of all descriptions; all zero if metrics are disabled
+   */
+  @Nonnull
+  public static DescriberMetricsMXBean totals() {
+    return TOTALS;
+  }
+
+  /**
+   * To be called by describers when writing the {@link DescriberProperties#ELLIPSIS} for
+   * elements omitted beyond the maximum count.
+   */
+  public static void truncated(@Nonnull Describer describer) {
+    if (DescriberProperties.METRICS_ENABLED) {
+      COUNTERS.get(describer.getClass()).truncated();
+      for (DescriberListener listener : LISTENERS) {
+        listener.truncated(describer);
+      }
+    }
+  }
+
+  static void described(@Nonnull Describer describer, long nanos, long characters) {
+    COUNTERS.get(describer.getClass()).described(nanos, characters);
+    for (DescriberListener listener : LISTENERS) {
+      listener.described(describer, nanos, characters);
+    }
+  }
+
+  static void lengthExhausted() {
+    TOTALS.lengthExhaustions.increment();
+    for (DescriberListener listener : LISTENERS) {
+      listener.lengthExhausted();
+    }
+  }
+
+  static void cycleDetected() {
+    TOTALS.cycles.increment();
+    for (DescriberListener listener : LISTENERS) {
+      listener.cycleDetected();
+    }
+  }
+
+  static void maxDepthReached() {
+    TOTALS.maxDepthHits.increment();
+    for (DescriberListener listener : LISTENERS) {
+      listener.maxDepthReached();
+    }
+  }
+
+  private static void register(@Nonnull Object mxBean, @Nonnull String properties) {
+    if (!DescriberProperties.METRICS_ENABLED) {
+      return;
+    }
+    try {
+      ManagementFactory.getPlatformMBeanServer()
+          .registerMBean(mxBean, new ObjectName(DOMAIN + ':' + properties));
+    } catch (JMException e) {
+      // E. g. if already registered by another class loader; counters still work.
+      LOG.warn("Unable to register MXBean {}.", properties, e);
+    }
+  }
+
+  private static final class Totals implements DescriberMetricsMXBean {
+
+    private final LongAdder lengthExhaustions = new LongAdder();
+    private final LongAdder cycles = new LongAdder();
+    private final LongAdder maxDepthHits = new LongAdder();
+
+    @Override
+    public long getLengthExhaustions() {
+      return lengthExhaustions.sum();
+    }
+
+    @Override
+    public long getCycles() {
+      return cycles.sum();
+    }
+
+    @Override
+    public long getMaxDepthHits() {
+      return maxDepthHits.sum();
+    }
+
+    @Override
+    public void reset() {
+      lengthExhaustions.reset();
+      cycles.reset();
+      maxDepthHits.reset();
+      ALL_COUNTERS.values().forEach(DescriberCounters::reset);
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("lengthExhaustions", lengthExhaustions)
+          .add("cycles", cycles)
+          .add("maxDepthHits", maxDepthHits)
+          .toString();
+    }
+  }
+}
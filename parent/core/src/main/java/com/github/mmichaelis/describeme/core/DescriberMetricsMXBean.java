@@ -0,0 +1,36 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.core;
+
+/**
+ * Counters of all descriptions, registered as {@code com.github.mmichaelis.describeme:type=Metrics}.
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+public interface DescriberMetricsMXBean {
+
+  long getLengthExhaustions();
+
+  long getCycles();
+
+  long getMaxDepthHits();
+
+  /**
+   * Reset all counters, including those of the describers.
+   */
+  void reset();
+}
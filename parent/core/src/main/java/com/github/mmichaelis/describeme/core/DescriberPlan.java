@@ -0,0 +1,109 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.core;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * How to describe values of one class, resolved once per class by {@link DescriberResolution}.
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+final class DescriberPlan {
+
+  private static final Describer[] NO_DESCRIBERS = {};
+
+  @Nonnull
+  private final Describer[] valueDependent;
+  @Nonnull
+  private final Describer describer;
+  /**
+   * The describer if it can be invoked without testing each value.
+   */
+  @Nullable
+  private final AbstractDescriber direct;
+
+  DescriberPlan(@Nonnull Describer[] valueDependent, @Nonnull Describer describer) {
+    this.valueDependent = (valueDependent.length == 0) ? NO_DESCRIBERS : valueDependent;
+    this.describer = describer;
+    direct = ((valueDependent.length == 0) && (describer instanceof AbstractDescriber))
+             ? (AbstractDescriber) describer
+             : null;
+  }
+
+  @Nonnull
+  Describer describerFor(@Nullable Object value) {
+    for (Describer candidate : valueDependent) {
+      if (candidate.test(value)) {
+        return candidate;
+      }
+    }
+    return describer;
+  }
+
+  /**
+   * Describe the given value, which must be of the class this plan has been resolved for.
+   */
+  void describeTo(@Nonnull Appendable appendable, @Nullable Object value, int maxCount,
+                  @Nonnull BiConsumer<Object, Object> recursiveConsumer) {
+    if (DescriberProperties.METRICS_ENABLED) {
+      describeMeasured(appendable, value, maxCount, recursiveConsumer);
+      return;
+    }
+    AbstractDescriber target = direct;
+    if (target != null) {
+      target.internalDescribeTo(appendable, value, maxCount, recursiveConsumer);
+    } else {
+      ((InternalDescriber) describerFor(value))
+          .describeTo(appendable, value, maxCount, recursiveConsumer);
+    }
+  }
+
+  private void describeMeasured(@Nonnull Appendable appendable, @Nullable Object value,
+                                int maxCount,
+                                @Nonnull BiConsumer<Object, Object> recursiveConsumer) {
+    Describer target = describerFor(value);
+    RecursiveDescriptionConsumer counting =
+        (recursiveConsumer instanceof RecursiveDescriptionConsumer)
+        ? (RecursiveDescriptionConsumer) recursiveConsumer
+        : null;
+    long charactersBefore = (counting == null) ? 0L : counting.charactersWritten();
+    long start = System.nanoTime();
+    if (target == direct) {
+      direct.internalDescribeTo(appendable, value, maxCount, recursiveConsumer);
+    } else {
+      ((InternalDescriber) target).describeTo(appendable, value, maxCount, recursiveConsumer);
+    }
+    long nanos = System.nanoTime() - start;
+    long characters = (counting == null) ? 0L : (counting.charactersWritten() - charactersBefore);
+    DescriberMetrics.described(target, nanos, characters);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("valueDependent", Arrays.toString(valueDependent))
+        .add("describer", describer)
+        .toString();
+  }
+}
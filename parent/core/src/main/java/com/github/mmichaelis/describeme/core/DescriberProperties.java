@@ -28,6 +28,46 @@ public final class DescriberProperties {
   @SuppressWarnings("AccessOfSystemProperties")
   public static final
   int MAX_COUNT = Integer.parseInt(System.getProperty("describe.max.count", "-1"));
+  /**
+   * Maximum number of characters of a complete description, not counting the
+   * {@link #ELLIPSIS} which marks a truncated description.
+   */
+  @SuppressWarnings("AccessOfSystemProperties")
+  public static final
+  int MAX_LENGTH = Integer.parseInt(System.getProperty("describe.max.length", "-1"));
+  /**
+   * Minimum number of elements of sized containers like lists or arrays which are described in
+   * parallel using the common fork-join pool. Parallel description is disabled by default
+   * ({@link #UNLIMITED}) and never applies to length limited descriptions.
+   */
+  @SuppressWarnings("AccessOfSystemProperties")
+  public static final
+  int PARALLEL_THRESHOLD =
+      Integer.parseInt(System.getProperty("describe.parallel.threshold", "-1"));
+  /**
+   * Enables {@link DescriberMetrics metrics} of describers. Metrics are disabled by default and
+   * then cost nothing.
+   */
+  @SuppressWarnings("AccessOfSystemProperties")
+  public static final
+  boolean METRICS_ENABLED = Boolean.getBoolean("describe.metrics.enabled");
+  /**
+   * Maximum number of descriptions memoized for each combination of maximum depth, count and
+   * length, see {@link DescriptionMemo}, which retains only a few of these combinations.
+   * Memoization is disabled by default ({@code 0}).
+   */
+  @SuppressWarnings("AccessOfSystemProperties")
+  public static final
+  int MEMO_SIZE = Integer.parseInt(System.getProperty("describe.memo.size", "0"));
+  /**
+   * Loads describers from the {@link DescriberIndex index} generated at build time, which
+   * instantiates them lazily. Set to {@code false} to load all describers via
+   * {@link java.util.ServiceLoader} instead. Enabled by default.
+   */
+  @SuppressWarnings("AccessOfSystemProperties")
+  public static final
+  boolean REGISTRY_INDEX =
+      Boolean.parseBoolean(System.getProperty("describe.registry.index", "true"));
   public static final String ELLIPSIS = "...";
   static final int ELLIPSIS_LENGTH = ELLIPSIS.length();
   public static final String RECURSION_PLACEHOLDER = "[...]";
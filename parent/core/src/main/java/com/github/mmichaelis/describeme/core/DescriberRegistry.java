@@ -0,0 +1,183 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.core;
+
+import com.google.common.base.MoreObjects;
+
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Immutable snapshot of the registered describers; the one in use is published via a volatile
+ * reference.
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+public final class DescriberRegistry {
+
+  private static final Logger LOG = getLogger(DescriberRegistry.class);
+
+  @Nonnull
+  private static volatile DescriberRegistry current = load();
+
+  @Nonnull
+  private final List<DescriberEntry> entries;
+  @Nonnull
+  private final DescriberResolution nullResolution;
+  @Nonnull
+  private final ClassValue<DescriberResolution> resolutions;
+
+  private DescriberRegistry(@Nonnull List<DescriberEntry> entries) {
+    this.entries = Collections.unmodifiableList(new ArrayList<>(entries));
+    Describer fallbackDescriber = new DefaultDescriber();
+    DescriberDispatch dispatch = new DescriberDispatch(this.entries);
+    nullResolution = new DescriberResolution(dispatch.candidatesFor(null), fallbackDescriber);
+    resolutions = new ClassValue<DescriberResolution>() {
+      @Override
+      protected DescriberResolution computeValue(Class<?> type) {
+        return new DescriberResolution(dispatch.candidatesFor(type), fallbackDescriber);
+      }
+    };
+  }
+
+  /**
+   * <p>
+   * The currently published registry.
+   * </p>
+   *
+   * @return registry used to describe values
+   */
+  @Nonnull
+  public static DescriberRegistry describerRegistry() {
+    return current;
+  }
+
+  /**
+   * <p>
+   * Load describers using the thread context class loader.
+   * </p>
+   *
+   * @return new registry; not published yet
+   * @see #publish(DescriberRegistry)
+   */
+  @Nonnull
+  public static DescriberRegistry load() {
+    return load(Thread.currentThread().getContextClassLoader());
+  }
+
+  /**
+   * <p>
+   * Load describers using the given class loader.
+   * </p>
+   *
+   * @param classLoader class loader to locate the index and provider configuration files with;
+   *                    {@code null} for the system class loader
+   * @return new registry; not published yet
+   * @see #publish(DescriberRegistry)
+   */
+  @Nonnull
+  public static DescriberRegistry load(@Nullable ClassLoader classLoader) {
+    ClassLoader loader = (classLoader == null) ? ClassLoader.getSystemClassLoader() : classLoader;
+    if (DescriberProperties.REGISTRY_INDEX) {
+      List<DescriberEntry> entries = DescriberIndex.load(loader);
+      if (!entries.isEmpty()) {
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("Indexed describers:\n\t{}",
+                    entries.stream().map(DescriberEntry::name).collect(joining(",\n\t")));
+        }
+        return new DescriberRegistry(entries);
+      }
+    }
+    return load(ServiceLoader.load(Describer.class, loader));
+  }
+
+  /**
+   * <p>
+   * Load describers using the thread context class loader and publish the new registry.
+   * </p>
+   *
+   * @return the new and now published registry
+   */
+  @Nonnull
+  public static DescriberRegistry reload() {
+    DescriberRegistry registry = load();
+    publish(registry);
+    return registry;
+  }
+
+  /**
+   * <p>
+   * Publish the given registry to be used for all subsequent descriptions. Descriptions
+   * already in progress will continue to use the registry they started with.
+   * </p>
+   *
+   * @param registry registry to publish
+   */
+  public static void publish(@Nonnull DescriberRegistry registry) {
+    current = requireNonNull(registry, "registry must be given.");
+  }
+
+  @Nonnull
+  private static DescriberRegistry load(@Nonnull ServiceLoader<Describer> serviceLoader) {
+    List<DescriberEntry> entries = new ArrayList<>();
+    serviceLoader.forEach(describer -> entries.add(DescriberEntry.of(describer)));
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("Registered describers:\n\t{}",
+                entries.stream().map(DescriberEntry::name).collect(joining(",\n\t")));
+    }
+    return new DescriberRegistry(entries);
+  }
+
+  /**
+   * <p>
+   * The registered describers in order of precedence. Instantiates describers not used yet.
+   * </p>
+   *
+   * @return unmodifiable list of describers
+   */
+  @Nonnull
+  public List<Describer> describers() {
+    return Collections.unmodifiableList(
+        entries.stream().map(DescriberEntry::describer).collect(toList()));
+  }
+
+  @Nonnull
+  DescriberPlan planFor(@Nullable Object value) {
+    DescriberResolution resolution =
+        (value == null) ? nullResolution : resolutions.get(value.getClass());
+    return resolution.planFor(value);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("entries", entries)
+        .toString();
+  }
+}
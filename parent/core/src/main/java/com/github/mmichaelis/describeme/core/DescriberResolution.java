@@ -0,0 +1,84 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.core;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Lazily resolved {@link DescriberPlan} for one class.
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+final class DescriberResolution {
+
+  private static final Describer[] NO_DESCRIBERS = {};
+
+  @Nonnull
+  private final DescriberEntry[] candidates;
+  @Nonnull
+  private final Describer fallbackDescriber;
+  @Nullable
+  private volatile DescriberPlan plan;
+
+  DescriberResolution(@Nonnull DescriberEntry[] candidates,
+                      @Nonnull Describer fallbackDescriber) {
+    this.candidates = candidates;
+    this.fallbackDescriber = fallbackDescriber;
+  }
+
+  /**
+   * Get the plan for values of the class, resolving it with the first value.
+   */
+  @Nonnull
+  DescriberPlan planFor(@Nullable Object value) {
+    DescriberPlan current = plan;
+    if (current == null) {
+      // Benign race: concurrent threads will come to the same result.
+      current = resolve(value);
+      plan = current;
+    }
+    return current;
+  }
+
+  @Nonnull
+  private DescriberPlan resolve(@Nullable Object value) {
+    Collection<Describer> valueDependent = new ArrayList<>();
+    for (DescriberEntry entry : candidates) {
+      Describer describer = entry.describer();
+      if (describer.isValueDependent()) {
+        valueDependent.add(describer);
+      } else if (describer.test(value)) {
+        return new DescriberPlan(valueDependent.toArray(NO_DESCRIBERS), describer);
+      }
+    }
+    return new DescriberPlan(valueDependent.toArray(NO_DESCRIBERS), fallbackDescriber);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("candidates", candidates.length)
+        .add("plan", plan)
+        .toString();
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.core;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the types of values a describer applies to, recorded in the describer index by the
+ * annotation processor.
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface Describes {
+
+  /**
+   * Types of values the describer may apply to, including their subtypes.
+   * {@code Describable.class} stands for all classes annotated with {@link Describable}.
+   */
+  Class<?>[] value();
+
+  /**
+   * Precedence among describers of equally specific types; lower orders are tested first.
+   */
+  int order() default 0;
+}
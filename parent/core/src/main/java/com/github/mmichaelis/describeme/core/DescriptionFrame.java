@@ -0,0 +1,87 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.core;
+
+import java.util.function.BiConsumer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Description of a value in progress, run step by step by {@link RecursiveDescriptionConsumer}.
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+abstract class DescriptionFrame {
+
+  @Nullable
+  Object parentObject;
+  boolean entered;
+  @Nullable
+  Class<?> elementType;
+  @Nullable
+  DescriberPlan elementPlan;
+  long startNanos;
+  long charactersBefore;
+
+  /**
+   * Plan for a nested value, cached for elements of the same class as the first one.
+   */
+  @Nonnull
+  final DescriberPlan elementPlanFor(@Nullable Object element,
+                                     @Nonnull DescriberRegistry registry) {
+    if (element == null) {
+      return registry.planFor(null);
+    }
+    Class<?> type = element.getClass();
+    if (type == elementType) {
+      return elementPlan;
+    }
+    DescriberPlan plan = registry.planFor(element);
+    if (elementType == null) {
+      elementType = type;
+      elementPlan = plan;
+    }
+    return plan;
+  }
+
+  @Nonnull
+  abstract Describer describer();
+
+  /**
+   * Continue the description, passing at most one nested value to the consumer.
+   *
+   * @return {@code false} if the description is to be {@link #finish() finished}
+   */
+  abstract boolean step(@Nonnull BiConsumer<Object, Object> elementConsumer);
+
+  /**
+   * Complete the description, like appending a closing bracket.
+   */
+  abstract void finish();
+
+  /**
+   * Run all steps at once.
+   */
+  final void run(@Nonnull BiConsumer<Object, Object> elementConsumer) {
+    //noinspection StatementWithEmptyBody
+    while (step(elementConsumer)) {
+      // Everything done in step.
+    }
+    finish();
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.core;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import static com.github.mmichaelis.describeme.core.DescriberRegistry.describerRegistry;
+
+/**
+ * Memoized descriptions of values whose describer is {@link Describer#isStable() stable};
+ * enabled by {@link DescriberProperties#MEMO_SIZE}.
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+public final class DescriptionMemo {
+
+  /**
+   * Maximum number of combinations of limits to memoize descriptions for.
+   */
+  static final int MAX_MEMOS = 8;
+  private static final Memo[] NO_MEMOS = {};
+  private static final Object LOCK = new Object();
+  /**
+   * One memo per combination of limits, searched linearly as there are only few.
+   */
+  @Nonnull
+  private static volatile Memo[] memos = NO_MEMOS;
+
+  private DescriptionMemo() {
+  }
+
+  /**
+   * @return {@code true} if {@link DescriberProperties#MEMO_SIZE} is positive
+   */
+  public static boolean isEnabled() {
+    return DescriberProperties.MEMO_SIZE > 0;
+  }
+
+  /**
+   * @return hits, misses and evictions summed up over all combinations of limits
+   */
+  @Nonnull
+  public static CacheStats stats() {
+    CacheStats stats = new CacheStats(0L, 0L, 0L, 0L, 0L, 0L);
+    for (Memo memo : memos) {
+      stats = stats.plus(memo.descriptions.stats());
+    }
+    return stats;
+  }
+
+  /**
+   * Forget all memoized descriptions, e. g. after {@link DescriberRegistry#reload() reloading}.
+   */
+  public static void invalidateAll() {
+    for (Memo memo : memos) {
+      memo.descriptions.invalidateAll();
+    }
+  }
+
+  static boolean isMemoizable(@Nullable Object value) {
+    return (value != null) && describerRegistry().planFor(value).describerFor(value).isStable();
+  }
+
+  @Nonnull
+  static Cache<Object, String> descriptions(int maxDepth, int maxCount, int maxLength) {
+    Memo memo = find(memos, maxDepth, maxCount, maxLength);
+    if (memo == null) {
+      synchronized (LOCK) {
+        Memo[] current = memos;
+        memo = find(current, maxDepth, maxCount, maxLength);
+        if (memo == null) {
+          memo = new Memo(maxDepth, maxCount, maxLength);
+          int retained = Math.min(current.length, MAX_MEMOS - 1);
+          Memo[] extended = new Memo[retained + 1];
+          System.arraycopy(current, current.length - retained, extended, 0, retained);
+          extended[retained] = memo;
+          memos = extended;
+        }
+      }
+    }
+    return memo.descriptions;
+  }
+
+  @Nullable
+  private static Memo find(@Nonnull Memo[] candidates, int maxDepth, int maxCount,
+                           int maxLength) {
+    for (Memo candidate : candidates) {
+      if ((candidate.maxDepth == maxDepth)
+          && (candidate.maxCount == maxCount)
+          && (candidate.maxLength == maxLength)) {
+        return candidate;
+      }
+    }
+    return null;
+  }
+
+  private static final class Memo {
+
+    private final int maxDepth;
+    private final int maxCount;
+    private final int maxLength;
+    /**
+     * Weak keys are compared by identity.
+     */
+    @Nonnull
+    private final Cache<Object, String> descriptions;
+
+    private Memo(int maxDepth, int maxCount, int maxLength) {
+      this.maxDepth = maxDepth;
+      this.maxCount = maxCount;
+      this.maxLength = maxLength;
+      descriptions = CacheBuilder.newBuilder()
+          .weakKeys()
+          .maximumSize(DescriberProperties.MEMO_SIZE)
+          .recordStats()
+          .build();
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("maxDepth", maxDepth)
+          .add("maxCount", maxCount)
+          .add("maxLength", maxLength)
+          .add("size", descriptions.size())
+          .toString();
+    }
+  }
+}
@@ -0,0 +1,423 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.core;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import static com.github.mmichaelis.describeme.core.RootDescriber.rootDescriber;
+import static java.text.MessageFormat.format;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Bounded queue of values described in the background by worker threads, applying an
+ * {@link Overflow overflow policy} when full.
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+public final class DescriptionQueue implements AutoCloseable {
+
+  /**
+   * Policy applied to values submitted while the queue is full.
+   */
+  public enum Overflow {
+    /**
+     * Do not describe the value. The future completes exceptionally with a
+     * {@link RejectedExecutionException}.
+     */
+    DROP,
+    /**
+     * Wait for a free slot in the queue. The future completes exceptionally with a
+     * {@link RejectedExecutionException} if the queue is closed meanwhile.
+     */
+    BLOCK,
+    /**
+     * Write a summary of the value immediately rather than its description: its class name
+     * and identity hash code, like {@code java.util.ArrayList@1b6d3586}.
+     */
+    SUMMARY
+  }
+
+  private static final AtomicInteger QUEUE_NUMBER = new AtomicInteger();
+
+  /**
+   * Guards the queue, the number of running workers and closing.
+   */
+  @Nonnull
+  private final ReentrantLock lock = new ReentrantLock();
+  @Nonnull
+  private final Condition notEmpty = lock.newCondition();
+  @Nonnull
+  private final Condition notFull = lock.newCondition();
+  @Nonnull
+  private final Deque<Task> queue;
+  private final int capacity;
+  private final int batchSize;
+  @Nonnull
+  private final Overflow overflow;
+  @Nonnull
+  private final Thread[] workers;
+  @Nonnull
+  private final LongAdder dropped = new LongAdder();
+  @Nonnull
+  private final LongAdder summarized = new LongAdder();
+  private int running;
+  private volatile boolean closed;
+
+  /**
+   * Create a queue with daemon workers.
+   *
+   * @param capacity  maximum number of values waiting to be described
+   * @param batchSize maximum number of values a worker takes from the queue at once
+   * @param workers   number of workers
+   * @param overflow  policy for values submitted while the queue is full
+   */
+  public DescriptionQueue(int capacity, int batchSize, int workers, @Nonnull Overflow overflow) {
+    this(capacity, batchSize, workers, overflow, daemonThreads());
+  }
+
+  /**
+   * Create a queue with workers created by the given factory and started at once.
+   *
+   * @param capacity      maximum number of values waiting to be described
+   * @param batchSize     maximum number of values a worker takes from the queue at once
+   * @param workers       number of workers
+   * @param overflow      policy for values submitted while the queue is full
+   * @param threadFactory factory to create the workers with
+   */
+  public DescriptionQueue(int capacity, int batchSize, int workers, @Nonnull Overflow overflow,
+                          @Nonnull ThreadFactory threadFactory) {
+    if ((capacity < 1) || (batchSize < 1) || (workers < 1)) {
+      throw new IllegalArgumentException(
+          format("Capacity ({0}), batch size ({1}) and workers ({2}) must be positive.",
+                 capacity, batchSize, workers));
+    }
+    queue = new ArrayDeque<>(capacity);
+    this.capacity = capacity;
+    this.batchSize = batchSize;
+    this.overflow = requireNonNull(overflow, "overflow must be given.");
+    requireNonNull(threadFactory, "threadFactory must be given.");
+    this.workers = new Thread[workers];
+    for (int i = 0; i < workers; i++) {
+      this.workers[i] = threadFactory.newThread(this::work);
+    }
+    running = workers;
+    for (Thread worker : this.workers) {
+      worker.start();
+    }
+  }
+
+  @Nonnull
+  private static ThreadFactory daemonThreads() {
+    int queueNumber = QUEUE_NUMBER.incrementAndGet();
+    AtomicInteger workerNumber = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, format("describe-queue-{0}-worker-{1}", queueNumber,
+                                                  workerNumber.incrementAndGet()));
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /**
+   * Describe the given value to the given appendable in the background.
+   *
+   * @param appendable appendable to write to; not to be used until the future completes
+   * @param value      value to describe; not to be modified until the future completes
+   * @param maxDepth   maximum depth of nested values to describe
+   * @param maxCount   maximum number of elements to describe
+   * @param maxLength  maximum number of characters to write, not counting the final ellipsis;
+   *                   {@link DescriberProperties#UNLIMITED} for no limit
+   * @return future completed once the description or summary has been written; completed
+   * exceptionally if the value has been dropped, the queue is closed or describing failed
+   */
+  @Nonnull
+  public CompletableFuture<Void> describeTo(@Nonnull Appendable appendable,
+                                            @Nullable Object value, int maxDepth, int maxCount,
+                                            int maxLength) {
+    requireNonNull(appendable, "appendable must be given.");
+    Task task = new Task(appendable, value, maxDepth, maxCount, maxLength);
+    try {
+      if (!offer(task)) {
+        overflow(task);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      task.future.completeExceptionally(e);
+    } catch (RejectedExecutionException e) {
+      task.future.completeExceptionally(e);
+    }
+    return task.future;
+  }
+
+  /**
+   * Queue the task, waiting for a free slot if the overflow policy is {@link Overflow#BLOCK}.
+   *
+   * @return {@code false} if the queue is full
+   */
+  private boolean offer(@Nonnull Task task) throws InterruptedException {
+    lock.lockInterruptibly();
+    try {
+      if (overflow == Overflow.BLOCK) {
+        while (!closed && (queue.size() >= capacity)) {
+          notFull.await();
+        }
+      }
+      if (closed) {
+        throw new RejectedExecutionException("Queue closed.");
+      }
+      if (queue.size() >= capacity) {
+        return false;
+      }
+      queue.add(task);
+      notEmpty.signal();
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void overflow(@Nonnull Task task) {
+    switch (overflow) {
+      case DROP:
+        dropped.increment();
+        task.future.completeExceptionally(
+            new RejectedExecutionException("Queue full, description dropped."));
+        break;
+      case SUMMARY:
+        summarized.increment();
+        try {
+          DescriptionSink.sinkFor(task.appendable).append(summary(task.value));
+          task.future.complete(null);
+        } catch (RuntimeException e) {
+          task.future.completeExceptionally(e);
+        }
+        break;
+      default:
+        throw new IllegalStateException(format("Unknown overflow policy {0}.", overflow));
+    }
+  }
+
+  @Nonnull
+  private static String summary(@Nullable Object value) {
+    if (value == null) {
+      return String.valueOf((Object) null);
+    }
+    return value.getClass().getName() + '@' + Integer.toHexString(System.identityHashCode(value));
+  }
+
+  private void work() {
+    List<Task> batch = new ArrayList<>(batchSize);
+    try {
+      while (take(batch)) {
+        for (Task task : batch) {
+          task.run();
+        }
+        batch.clear();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      // Values taken but not described, if the worker stops unexpectedly.
+      reject(batch);
+      stopped();
+    }
+  }
+
+  /**
+   * Take up to {@code batchSize} tasks, waiting for at least one.
+   *
+   * @return {@code false} if the queue is closed and empty
+   */
+  private boolean take(@Nonnull List<Task> batch) throws InterruptedException {
+    lock.lockInterruptibly();
+    try {
+      while (queue.isEmpty()) {
+        if (closed) {
+          return false;
+        }
+        notEmpty.await();
+      }
+      for (int i = 0; (i < batchSize) && !queue.isEmpty(); i++) {
+        batch.add(queue.poll());
+      }
+      notFull.signalAll();
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void stopped() {
+    List<Task> orphans = new ArrayList<>();
+    lock.lock();
+    try {
+      running--;
+      if (running == 0) {
+        // No worker left to describe queued values, nor values submitted later.
+        closed = true;
+        orphans.addAll(queue);
+        queue.clear();
+        notFull.signalAll();
+      }
+    } finally {
+      lock.unlock();
+    }
+    reject(orphans);
+  }
+
+  private static void reject(@Nonnull List<Task> tasks) {
+    for (Task task : tasks) {
+      task.future.completeExceptionally(new RejectedExecutionException("Workers stopped."));
+    }
+  }
+
+  /**
+   * Stop accepting values, rejecting blocked submissions. Values queued already are still
+   * described.
+   */
+  @Override
+  public void close() {
+    lock.lock();
+    try {
+      closed = true;
+      notEmpty.signalAll();
+      notFull.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Wait for the workers to stop after {@link #close() closing} the queue.
+   *
+   * @param timeout maximum time to wait
+   * @param unit    unit of the timeout
+   * @return {@code true} if all workers stopped; {@code false} if the timeout elapsed before
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public boolean awaitTermination(long timeout, @Nonnull TimeUnit unit)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    for (Thread worker : workers) {
+      long remaining = deadline - System.nanoTime();
+      if (remaining > 0L) {
+        TimeUnit.NANOSECONDS.timedJoin(worker, remaining);
+      }
+      if (worker.isAlive()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return number of values waiting to be described
+   */
+  public int queued() {
+    lock.lock();
+    try {
+      return queue.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @return number of values dropped as the queue was full
+   */
+  public long dropped() {
+    return dropped.sum();
+  }
+
+  /**
+   * @return number of values summarized rather than described as the queue was full
+   */
+  public long summarized() {
+    return summarized.sum();
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("queued", queued())
+        .add("batchSize", batchSize)
+        .add("workers", workers.length)
+        .add("overflow", overflow)
+        .add("dropped", dropped.sum())
+        .add("summarized", summarized.sum())
+        .add("closed", closed)
+        .toString();
+  }
+
+  private static final class Task {
+
+    @Nonnull
+    private final Appendable appendable;
+    @Nullable
+    private final Object value;
+    private final int maxDepth;
+    private final int maxCount;
+    private final int maxLength;
+    @Nonnull
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+    private Task(@Nonnull Appendable appendable, @Nullable Object value, int maxDepth,
+                 int maxCount, int maxLength) {
+      this.appendable = appendable;
+      this.value = value;
+      this.maxDepth = maxDepth;
+      this.maxCount = maxCount;
+      this.maxLength = maxLength;
+    }
+
+    private void run() {
+      try {
+        rootDescriber().describeTo(appendable, value, maxDepth, maxCount, maxLength);
+        future.complete(null);
+      } catch (RuntimeException | Error e) {
+        // Fail the value only; the worker continues with the next one.
+        future.completeExceptionally(e);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("maxDepth", maxDepth)
+          .add("maxCount", maxCount)
+          .add("maxLength", maxLength)
+          .add("done", future.isDone())
+          .toString();
+    }
+  }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.core;
+
+import com.google.common.base.MoreObjects;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Description of a value which is rendered step by step while being read. The value must not
+ * be modified before the reader is closed or exhausted.
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+public final class DescriptionReader extends Reader {
+
+  private static final int MAX_RETAINED_CAPACITY = 8 * 1024;
+
+  @Nonnull
+  private StringBuilder buffer = new StringBuilder();
+  private int position;
+  @Nullable
+  private Object value;
+  private final int maxCount;
+  /**
+   * {@code null} once closed.
+   */
+  @Nullable
+  private RecursiveDescriptionConsumer consumer;
+  private boolean started;
+  private boolean complete;
+
+  DescriptionReader(@Nullable Object value, int maxDepth, int maxCount, int maxLength) {
+    this.value = value;
+    this.maxCount = maxCount;
+    consumer = new RecursiveDescriptionConsumer(new BufferSink(), maxDepth, maxCount,
+                                                maxLength);
+  }
+
+  @Override
+  public int read(@Nonnull char[] cbuf, int off, int len) throws IOException {
+    if ((off < 0) || (len < 0) || (len > (cbuf.length - off))) {
+      throw new IndexOutOfBoundsException();
+    }
+    synchronized (lock) {
+      ensureOpen();
+      if (len == 0) {
+        return 0;
+      }
+      fill(len);
+      int available = buffer.length() - position;
+      if (available == 0) {
+        return -1;
+      }
+      int count = Math.min(available, len);
+      buffer.getChars(position, position + count, cbuf, off);
+      position += count;
+      if (position == buffer.length()) {
+        recycleBuffer();
+      }
+      return count;
+    }
+  }
+
+  @Override
+  public int read() throws IOException {
+    synchronized (lock) {
+      ensureOpen();
+      fill(1);
+      if (position == buffer.length()) {
+        return -1;
+      }
+      char c = buffer.charAt(position);
+      position++;
+      if (position == buffer.length()) {
+        recycleBuffer();
+      }
+      return c;
+    }
+  }
+
+  /**
+   * @return {@code true} if characters are buffered, i. e. available without describing further
+   * @throws IOException if the reader has been closed
+   */
+  @Override
+  public boolean ready() throws IOException {
+    synchronized (lock) {
+      ensureOpen();
+      return position < buffer.length();
+    }
+  }
+
+  @Override
+  public void close() {
+    synchronized (lock) {
+      consumer = null;
+      value = null;
+      buffer = new StringBuilder();
+      position = 0;
+      complete = true;
+    }
+  }
+
+  /**
+   * Describe until at least the given number of characters is buffered or the description is
+   * complete.
+   */
+  private void fill(int required) {
+    RecursiveDescriptionConsumer current = consumer;
+    assert current != null : "Reader must be open.";
+    try {
+      if (!started) {
+        started = true;
+        current.start(current.sink(), value, maxCount);
+        value = null;
+      }
+      while (!complete && ((buffer.length() - position) < required)) {
+        complete = !current.step();
+      }
+    } catch (RuntimeException | Error e) {
+      // The state of a failed description is undefined; do not continue it.
+      complete = true;
+      throw e;
+    }
+  }
+
+  private void recycleBuffer() {
+    if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+      buffer = new StringBuilder();
+    } else {
+      buffer.setLength(0);
+    }
+    position = 0;
+  }
+
+  private void ensureOpen() throws IOException {
+    if (consumer == null) {
+      throw new IOException("Reader closed.");
+    }
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("buffered", buffer.length() - position)
+        .add("started", started)
+        .add("complete", complete)
+        .add("consumer", consumer)
+        .toString();
+  }
+
+  /**
+   * Appends to the current buffer, which is replaced when recycled.
+   */
+  private final class BufferSink extends DescriptionSink {
+
+    @Nonnull
+    @Override
+    public DescriptionSink append(char c) {
+      buffer.append(c);
+      return this;
+    }
+
+    @Nonnull
+    @Override
+    public DescriptionSink append(@Nullable CharSequence csq, int start, int end) {
+      buffer.append((csq == null) ? "null" : csq, start, end);
+      return this;
+    }
+
+    @Nonnull
+    @Override
+    public DescriptionSink append(@Nonnull char[] chunk, int offset, int length) {
+      buffer.append(chunk, offset, length);
+      return this;
+    }
+  }
+}
@@ -0,0 +1,477 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.core;
+
+import com.google.common.base.MoreObjects;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import static java.text.MessageFormat.format;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Target of descriptions with typed append methods, which throws {@link DescriberIOException}
+ * rather than checked exceptions.
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+public abstract class DescriptionSink implements Appendable {
+
+  private static final String NULL = "null";
+  private static final int MAX_LONG_LENGTH = 20;
+  private static final int RADIX = 10;
+
+  @Nullable
+  private char[] digits;
+
+  /**
+   * @return the appendable itself if it already is a sink; a new sink writing to it otherwise
+   */
+  @Nonnull
+  public static DescriptionSink sinkFor(@Nonnull Appendable appendable) {
+    requireNonNull(appendable, "appendable must be given.");
+    if (appendable instanceof DescriptionSink) {
+      return (DescriptionSink) appendable;
+    }
+    if (appendable instanceof StringBuilder) {
+      return new StringBuilderSink((StringBuilder) appendable);
+    }
+    if (appendable instanceof Writer) {
+      return new WriterSink((Writer) appendable);
+    }
+    return new AppendableSink(appendable);
+  }
+
+  /**
+   * Describers iterating over elements should stop as soon as the sink is exhausted.
+   *
+   * @return {@code true} if the length budget is used up and nothing more will be written
+   */
+  public boolean isExhausted() {
+    return false;
+  }
+
+  @Nonnull
+  @Override
+  public abstract DescriptionSink append(char c);
+
+  @Nonnull
+  @Override
+  public abstract DescriptionSink append(@Nullable CharSequence csq, int start, int end);
+
+  @Nonnull
+  @Override
+  public DescriptionSink append(@Nullable CharSequence csq) {
+    CharSequence nonNull = (csq == null) ? NULL : csq;
+    return append(nonNull, 0, nonNull.length());
+  }
+
+  @Nonnull
+  public DescriptionSink append(@Nullable String str) {
+    String nonNull = (str == null) ? NULL : str;
+    return append(nonNull, 0, nonNull.length());
+  }
+
+  @Nonnull
+  public DescriptionSink appendInt(int value) {
+    return appendLong(value);
+  }
+
+  @Nonnull
+  public DescriptionSink appendLong(long value) {
+    char[] buffer = digits;
+    if (buffer == null) {
+      buffer = new char[MAX_LONG_LENGTH];
+      digits = buffer;
+    }
+    int position = buffer.length;
+    // Calculate on negative values, as -Long.MIN_VALUE does not exist.
+    long remaining = (value < 0L) ? value : -value;
+    do {
+      buffer[--position] = (char) ('0' - (remaining % RADIX));
+      remaining /= RADIX;
+    } while (remaining != 0L);
+    if (value < 0L) {
+      buffer[--position] = '-';
+    }
+    return append(buffer, position, buffer.length - position);
+  }
+
+  @Nonnull
+  public DescriptionSink appendBoolean(boolean value) {
+    return append(String.valueOf(value));
+  }
+
+  /**
+   * Append {@code length} characters of the given array, starting at {@code offset}.
+   */
+  @Nonnull
+  public DescriptionSink append(@Nonnull char[] chars, int offset, int length) {
+    for (int i = offset; i < (offset + length); i++) {
+      append(chars[i]);
+    }
+    return this;
+  }
+
+  @Nonnull
+  static DescriberIOException appendFailed(@Nonnull Object target, @Nonnull IOException e) {
+    return new DescriberIOException(format("Unable to append to {0}.", target), e);
+  }
+
+  /**
+   * Sink which writes at most the given number of characters, then one
+   * {@link DescriberProperties#ELLIPSIS}.
+   */
+  static final class LimitedSink extends DescriptionSink {
+
+    @Nonnull
+    private DescriptionSink delegate;
+    private int remaining;
+    private boolean exhausted;
+
+    LimitedSink(@Nonnull DescriptionSink delegate, int maxLength) {
+      this.delegate = delegate;
+      remaining = maxLength;
+    }
+
+    @Nonnull
+    LimitedSink reset(@Nonnull DescriptionSink target, int maxLength) {
+      delegate = target;
+      remaining = maxLength;
+      exhausted = false;
+      return this;
+    }
+
+    @Override
+    public boolean isExhausted() {
+      return exhausted;
+    }
+
+    @Nonnull
+    @Override
+    public DescriptionSink append(char c) {
+      if (remaining > 0) {
+        delegate.append(c);
+        remaining--;
+      } else {
+        exhaust();
+      }
+      return this;
+    }
+
+    @Nonnull
+    @Override
+    public DescriptionSink append(@Nullable CharSequence csq, int start, int end) {
+      CharSequence nonNull = (csq == null) ? NULL : csq;
+      int length = end - start;
+      if (length <= remaining) {
+        delegate.append(nonNull, start, end);
+        remaining -= length;
+      } else if (!exhausted) {
+        int cut = start + remaining;
+        if ((cut > start) && Character.isHighSurrogate(nonNull.charAt(cut - 1))) {
+          // Do not split surrogate pairs.
+          cut--;
+        }
+        delegate.append(nonNull, start, cut);
+        exhaust();
+      }
+      return this;
+    }
+
+    @Nonnull
+    @Override
+    public DescriptionSink append(@Nonnull char[] chars, int offset, int length) {
+      if (length <= remaining) {
+        delegate.append(chars, offset, length);
+        remaining -= length;
+      } else if (!exhausted) {
+        delegate.append(chars, offset, remaining);
+        exhaust();
+      }
+      return this;
+    }
+
+    private void exhaust() {
+      if (!exhausted) {
+        delegate.append(DescriberProperties.ELLIPSIS);
+        remaining = 0;
+        exhausted = true;
+        if (DescriberProperties.METRICS_ENABLED) {
+          DescriberMetrics.lengthExhausted();
+        }
+      }
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("delegate", delegate)
+          .add("remaining", remaining)
+          .add("exhausted", exhausted)
+          .toString();
+    }
+  }
+
+  /**
+   * Sink which counts the characters written, if metrics are enabled.
+   */
+  static final class CountingSink extends DescriptionSink {
+
+    @Nonnull
+    private DescriptionSink delegate;
+    private long count;
+
+    CountingSink(@Nonnull DescriptionSink delegate) {
+      this.delegate = delegate;
+    }
+
+    @Nonnull
+    CountingSink reset(@Nonnull DescriptionSink target) {
+      delegate = target;
+      count = 0L;
+      return this;
+    }
+
+    long count() {
+      return count;
+    }
+
+    @Override
+    public boolean isExhausted() {
+      return delegate.isExhausted();
+    }
+
+    @Nonnull
+    @Override
+    public DescriptionSink append(char c) {
+      delegate.append(c);
+      count++;
+      return this;
+    }
+
+    @Nonnull
+    @Override
+    public DescriptionSink append(@Nullable CharSequence csq, int start, int end) {
+      delegate.append(csq, start, end);
+      count += end - start;
+      return this;
+    }
+
+    @Nonnull
+    @Override
+    public DescriptionSink append(@Nonnull char[] chars, int offset, int length) {
+      delegate.append(chars, offset, length);
+      count += length;
+      return this;
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("delegate", delegate)
+          .add("count", count)
+          .toString();
+    }
+  }
+
+  private static final class StringBuilderSink extends DescriptionSink {
+
+    @Nonnull
+    private final StringBuilder builder;
+
+    private StringBuilderSink(@Nonnull StringBuilder builder) {
+      this.builder = builder;
+    }
+
+    @Nonnull
+    @Override
+    public DescriptionSink append(char c) {
+      builder.append(c);
+      return this;
+    }
+
+    @Nonnull
+    @Override
+    public DescriptionSink append(@Nullable CharSequence csq, int start, int end) {
+      builder.append((csq == null) ? NULL : csq, start, end);
+      return this;
+    }
+
+    @Nonnull
+    @Override
+    public DescriptionSink append(@Nullable String str) {
+      builder.append(str);
+      return this;
+    }
+
+    @Nonnull
+    @Override
+    public DescriptionSink appendInt(int value) {
+      builder.append(value);
+      return this;
+    }
+
+    @Nonnull
+    @Override
+    public DescriptionSink appendLong(long value) {
+      builder.append(value);
+      return this;
+    }
+
+    @Nonnull
+    @Override
+    public DescriptionSink appendBoolean(boolean value) {
+      builder.append(value);
+      return this;
+    }
+
+    @Nonnull
+    @Override
+    public DescriptionSink append(@Nonnull char[] chars, int offset, int length) {
+      builder.append(chars, offset, length);
+      return this;
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("length", builder.length())
+          .toString();
+    }
+  }
+
+  private static final class WriterSink extends DescriptionSink {
+
+    private static final int CHUNK_SIZE = 256;
+
+    @Nonnull
+    private final Writer writer;
+    @Nullable
+    private char[] chunk;
+
+    private WriterSink(@Nonnull Writer writer) {
+      this.writer = writer;
+    }
+
+    @Nonnull
+    @Override
+    public DescriptionSink append(char c) {
+      try {
+        writer.write(c);
+      } catch (IOException e) {
+        throw appendFailed(writer, e);
+      }
+      return this;
+    }
+
+    @Nonnull
+    @Override
+    public DescriptionSink append(@Nullable CharSequence csq, int start, int end) {
+      CharSequence nonNull = (csq == null) ? NULL : csq;
+      try {
+        if (nonNull instanceof String) {
+          writer.write((String) nonNull, start, end - start);
+        } else {
+          writeChunked(nonNull, start, end);
+        }
+      } catch (IOException e) {
+        throw appendFailed(writer, e);
+      }
+      return this;
+    }
+
+    private void writeChunked(@Nonnull CharSequence csq, int start, int end)
+        throws IOException {
+      char[] buffer = chunk;
+      if (buffer == null) {
+        buffer = new char[CHUNK_SIZE];
+        chunk = buffer;
+      }
+      int position = start;
+      while (position < end) {
+        int length = Math.min(buffer.length, end - position);
+        for (int i = 0; i < length; i++) {
+          buffer[i] = csq.charAt(position + i);
+        }
+        writer.write(buffer, 0, length);
+        position += length;
+      }
+    }
+
+    @Nonnull
+    @Override
+    public DescriptionSink append(@Nonnull char[] chars, int offset, int length) {
+      try {
+        writer.write(chars, offset, length);
+      } catch (IOException e) {
+        throw appendFailed(writer, e);
+      }
+      return this;
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("writer", writer)
+          .toString();
+    }
+  }
+
+  private static final class AppendableSink extends DescriptionSink {
+
+    @Nonnull
+    private final Appendable appendable;
+
+    private AppendableSink(@Nonnull Appendable appendable) {
+      this.appendable = appendable;
+    }
+
+    @Nonnull
+    @Override
+    public DescriptionSink append(char c) {
+      try {
+        appendable.append(c);
+      } catch (IOException e) {
+        throw appendFailed(appendable, e);
+      }
+      return this;
+    }
+
+    @Nonnull
+    @Override
+    public DescriptionSink append(@Nullable CharSequence csq, int start, int end) {
+      try {
+        appendable.append(csq, start, end);
+      } catch (IOException e) {
+        throw appendFailed(appendable, e);
+      }
+      return this;
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("appendable", appendable)
+          .toString();
+    }
+  }
+}
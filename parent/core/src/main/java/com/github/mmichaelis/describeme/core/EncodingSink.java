@@ -0,0 +1,357 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.core;
+
+import com.google.common.base.MoreObjects;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import static java.text.MessageFormat.format;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Sink which encodes the description to bytes in chunks with pooled buffers. Must be
+ * {@link #finish() finished} and {@link #release() released} after describing.
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+abstract class EncodingSink extends DescriptionSink {
+
+  private static final int CHAR_CHUNK_SIZE = 8 * 1024;
+  private static final int BYTE_CHUNK_SIZE = 32 * 1024;
+  private static final ThreadLocal<Buffers> POOL = ThreadLocal.withInitial(Buffers::new);
+  private static final int MAX_DIRECT_BUFFERS = Runtime.getRuntime().availableProcessors();
+  private static final BlockingQueue<ByteBuffer> DIRECT_POOL =
+      new ArrayBlockingQueue<>(MAX_DIRECT_BUFFERS);
+  private static final AtomicInteger DIRECT_ALLOCATED = new AtomicInteger();
+
+  @Nonnull
+  private final Buffers buffers;
+  @Nonnull
+  private final CharBuffer chars;
+  @Nonnull
+  private final ByteBuffer bytes;
+  @Nonnull
+  private final CharsetEncoder encoder;
+
+  private EncodingSink(@Nonnull Buffers buffers, @Nonnull ByteBuffer bytes,
+                       @Nonnull Charset charset) {
+    this.buffers = buffers;
+    this.bytes = bytes;
+    chars = buffers.chars;
+    encoder = buffers.encoderFor(charset);
+  }
+
+  /**
+   * Provide a sink writing to the given channel via a pooled direct buffer, if available.
+   *
+   * @throws IllegalArgumentException if the channel is non-blocking
+   */
+  @Nonnull
+  static EncodingSink encodingSink(@Nonnull WritableByteChannel channel,
+                                   @Nonnull Charset charset) {
+    requireNonNull(channel, "channel must be given.");
+    requireNonNull(charset, "charset must be given.");
+    if ((channel instanceof SelectableChannel) && !((SelectableChannel) channel).isBlocking()) {
+      throw new IllegalArgumentException(format("Channel {0} must be blocking.", channel));
+    }
+    Buffers buffers = Buffers.acquire();
+    return new ChannelSink(buffers, channel, charset);
+  }
+
+  @Nonnull
+  static EncodingSink encodingSink(@Nonnull OutputStream out, @Nonnull Charset charset) {
+    requireNonNull(out, "out must be given.");
+    requireNonNull(charset, "charset must be given.");
+    Buffers buffers = Buffers.acquire();
+    return new StreamSink(buffers, out, charset);
+  }
+
+  @Nonnull
+  @Override
+  public DescriptionSink append(char c) {
+    if (!chars.hasRemaining()) {
+      encode(false);
+    }
+    chars.put(c);
+    return this;
+  }
+
+  @Nonnull
+  @Override
+  public DescriptionSink append(@Nullable CharSequence csq, int start, int end) {
+    CharSequence nonNull = (csq == null) ? "null" : csq;
+    int position = start;
+    while (position < end) {
+      if (!chars.hasRemaining()) {
+        encode(false);
+      }
+      int length = Math.min(chars.remaining(), end - position);
+      if (nonNull instanceof String) {
+        chars.put((String) nonNull, position, position + length);
+      } else {
+        for (int i = position; i < (position + length); i++) {
+          chars.put(nonNull.charAt(i));
+        }
+      }
+      position += length;
+    }
+    return this;
+  }
+
+  @Nonnull
+  @Override
+  public DescriptionSink append(@Nonnull char[] chunk, int offset, int length) {
+    int position = offset;
+    int end = offset + length;
+    while (position < end) {
+      if (!chars.hasRemaining()) {
+        encode(false);
+      }
+      int count = Math.min(chars.remaining(), end - position);
+      chars.put(chunk, position, count);
+      position += count;
+    }
+    return this;
+  }
+
+  /**
+   * Encode and write all pending characters.
+   */
+  void finish() {
+    encode(true);
+    CoderResult result = encoder.flush(bytes);
+    while (result.isOverflow()) {
+      drain();
+      result = encoder.flush(bytes);
+    }
+    drain();
+  }
+
+  /**
+   * Return the buffers to the pool. The sink must not be used afterwards.
+   */
+  void release() {
+    buffers.release();
+  }
+
+  @Nonnull
+  ByteBuffer bytes() {
+    return bytes;
+  }
+
+  /**
+   * Write all remaining bytes of the given buffer.
+   */
+  protected abstract void write(@Nonnull ByteBuffer filled) throws IOException;
+
+  private void encode(boolean endOfInput) {
+    // Buffer methods are called via Buffer, as they are overridden covariantly since Java 9.
+    ((Buffer) chars).flip();
+    try {
+      CoderResult result = encoder.encode(chars, bytes, endOfInput);
+      while (result.isOverflow()) {
+        drain();
+        result = encoder.encode(chars, bytes, endOfInput);
+      }
+      if (result.isError()) {
+        result.throwException();
+      }
+    } catch (CharacterCodingException e) {
+      throw new DescriberIOException(format("Unable to encode with {0}.", encoder.charset()), e);
+    } finally {
+      // Keeps a high surrogate waiting for its low surrogate.
+      chars.compact();
+    }
+  }
+
+  private void drain() {
+    ((Buffer) bytes).flip();
+    try {
+      write(bytes);
+    } catch (IOException e) {
+      throw appendFailed(this, e);
+    } finally {
+      ((Buffer) bytes).clear();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("charset", encoder.charset())
+        .add("pendingChars", chars.position())
+        .add("pendingBytes", bytes.position())
+        .toString();
+  }
+
+  private static final class ChannelSink extends EncodingSink {
+
+    @Nonnull
+    private final WritableByteChannel channel;
+
+    private ChannelSink(@Nonnull Buffers buffers, @Nonnull WritableByteChannel channel,
+                        @Nonnull Charset charset) {
+      super(buffers, acquireBytes(buffers), charset);
+      this.channel = channel;
+    }
+
+    @Nonnull
+    private static ByteBuffer acquireBytes(@Nonnull Buffers buffers) {
+      ByteBuffer pooled = DIRECT_POOL.poll();
+      if (pooled != null) {
+        return pooled;
+      }
+      if (DIRECT_ALLOCATED.getAndUpdate(n -> (n < MAX_DIRECT_BUFFERS) ? (n + 1) : n)
+          < MAX_DIRECT_BUFFERS) {
+        return ByteBuffer.allocateDirect(BYTE_CHUNK_SIZE);
+      }
+      return buffers.heapBytes();
+    }
+
+    @Override
+    protected void write(@Nonnull ByteBuffer filled) throws IOException {
+      while (filled.hasRemaining()) {
+        if (channel.write(filled) == 0) {
+          // Blocking channels write all bytes; thus no progress would be made anymore.
+          throw new IOException(format("Channel {0} does not accept any bytes.", channel));
+        }
+      }
+    }
+
+    @Override
+    void release() {
+      ByteBuffer bytes = bytes();
+      if (bytes.isDirect()) {
+        ((Buffer) bytes).clear();
+        DIRECT_POOL.offer(bytes);
+      }
+      super.release();
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("channel", channel)
+          .add("super", super.toString())
+          .toString();
+    }
+  }
+
+  private static final class StreamSink extends EncodingSink {
+
+    @Nonnull
+    private final OutputStream out;
+
+    private StreamSink(@Nonnull Buffers buffers, @Nonnull OutputStream out,
+                       @Nonnull Charset charset) {
+      super(buffers, buffers.heapBytes(), charset);
+      this.out = out;
+    }
+
+    @Override
+    protected void write(@Nonnull ByteBuffer filled) throws IOException {
+      out.write(filled.array(), filled.arrayOffset() + filled.position(), filled.remaining());
+      ((Buffer) filled).position(filled.limit());
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("out", out)
+          .add("super", super.toString())
+          .toString();
+    }
+  }
+
+  /**
+   * Buffers and encoder of one thread.
+   */
+  private static final class Buffers {
+
+    @Nonnull
+    private final CharBuffer chars = CharBuffer.allocate(CHAR_CHUNK_SIZE);
+    @Nullable
+    private ByteBuffer heapBytes;
+    @Nullable
+    private CharsetEncoder encoder;
+    private boolean inUse;
+
+    @Nonnull
+    private static Buffers acquire() {
+      Buffers pooled = POOL.get();
+      Buffers buffers = pooled.inUse ? new Buffers() : pooled;
+      buffers.inUse = true;
+      return buffers;
+    }
+
+    private void release() {
+      ((Buffer) chars).clear();
+      if (heapBytes != null) {
+        ((Buffer) heapBytes).clear();
+      }
+      inUse = false;
+    }
+
+    @Nonnull
+    private CharsetEncoder encoderFor(@Nonnull Charset charset) {
+      CharsetEncoder current = encoder;
+      if ((current == null) || !current.charset().equals(charset)) {
+        current = charset.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        encoder = current;
+      } else {
+        current.reset();
+      }
+      return current;
+    }
+
+    @Nonnull
+    private ByteBuffer heapBytes() {
+      if (heapBytes == null) {
+        heapBytes = ByteBuffer.allocate(BYTE_CHUNK_SIZE);
+      }
+      return heapBytes;
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("encoder", encoder)
+          .add("inUse", inUse)
+          .toString();
+    }
+  }
+}
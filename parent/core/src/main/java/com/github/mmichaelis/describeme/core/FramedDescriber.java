@@ -0,0 +1,51 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.core;
+
+import java.util.function.BiConsumer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Describer whose descriptions are {@link DescriptionFrame frames}.
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+abstract class FramedDescriber extends AbstractDescriber {
+
+  @Override
+  protected final void internalDescribeTo(@Nonnull Appendable appendable, @Nullable Object value,
+                                          int maxCount,
+                                          @Nonnull BiConsumer<Object, Object> recursiveConsumer) {
+    DescriptionFrame frame =
+        startDescription(DescriptionSink.sinkFor(appendable), value, maxCount, recursiveConsumer);
+    if (frame != null) {
+      frame.run(recursiveConsumer);
+    }
+  }
+
+  /**
+   * Start to describe the given value, leaving nested values to the returned frame.
+   *
+   * @return {@code null} if the description is complete
+   */
+  @Nullable
+  abstract DescriptionFrame startDescription(@Nonnull DescriptionSink sink,
+                                             @Nullable Object value, int maxCount,
+                                             @Nonnull BiConsumer<Object, Object> recursiveConsumer);
+}
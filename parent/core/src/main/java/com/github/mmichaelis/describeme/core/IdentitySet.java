@@ -0,0 +1,186 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.core;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.Arrays;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Open-addressed set of objects compared by identity, never calling {@code hashCode()} or {@code equals()}.
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+final class IdentitySet {
+
+  private static final int DEFAULT_EXPECTED_SIZE = 8;
+  /**
+   * Expected sizes like the maximum depth may be huge; the table grows on demand.
+   */
+  private static final int MAX_INITIAL_SIZE = 16;
+  private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+  @Nonnull
+  private Object[] table;
+  private int size;
+
+  IdentitySet() {
+    this(DEFAULT_EXPECTED_SIZE);
+  }
+
+  IdentitySet(int expectedSize) {
+    table = new Object[capacityFor(expectedSize)];
+  }
+
+  IdentitySet(@Nonnull IdentitySet other) {
+    table = other.table.clone();
+    size = other.size;
+  }
+
+  private static int capacityFor(int expectedSize) {
+    int size = Math.min(Math.max(expectedSize, DEFAULT_EXPECTED_SIZE), MAX_INITIAL_SIZE);
+    // At most half of the table is used, to keep probe sequences short.
+    return Integer.highestOneBit((size << 1) - 1) << 1;
+  }
+
+  private static int indexFor(@Nonnull Object obj, int mask) {
+    int hash = System.identityHashCode(obj);
+    // Spread bits as identity hash codes tend to have poor low bits.
+    return (hash ^ (hash >>> 16)) & mask;
+  }
+
+  boolean contains(@Nullable Object obj) {
+    if (obj == null) {
+      return false;
+    }
+    Object[] tab = table;
+    int mask = tab.length - 1;
+    for (int i = indexFor(obj, mask); ; i = (i + 1) & mask) {
+      Object candidate = tab[i];
+      if (candidate == null) {
+        return false;
+      }
+      if (candidate == obj) {
+        return true;
+      }
+    }
+  }
+
+  boolean add(@Nullable Object obj) {
+    if (obj == null) {
+      return false;
+    }
+    Object[] tab = table;
+    int mask = tab.length - 1;
+    int i = indexFor(obj, mask);
+    for (Object candidate = tab[i]; candidate != null; candidate = tab[i]) {
+      if (candidate == obj) {
+        return false;
+      }
+      i = (i + 1) & mask;
+    }
+    tab[i] = obj;
+    size++;
+    if ((size << 1) > tab.length) {
+      resize();
+    }
+    return true;
+  }
+
+  boolean remove(@Nullable Object obj) {
+    if (obj == null) {
+      return false;
+    }
+    Object[] tab = table;
+    int mask = tab.length - 1;
+    for (int i = indexFor(obj, mask); ; i = (i + 1) & mask) {
+      Object candidate = tab[i];
+      if (candidate == null) {
+        return false;
+      }
+      if (candidate == obj) {
+        tab[i] = null;
+        size--;
+        closeDeletion(tab, i);
+        return true;
+      }
+    }
+  }
+
+  void clear() {
+    if (size > 0) {
+      Arrays.fill(table, null);
+      size = 0;
+    }
+  }
+
+  int size() {
+    return size;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Backward shift deletion: move following entries of the same probe sequence into the freed
+   * slot, so that no tombstones are required.
+   */
+  private static void closeDeletion(@Nonnull Object[] tab, int deleted) {
+    int mask = tab.length - 1;
+    int gap = deleted;
+    for (int i = (gap + 1) & mask; tab[i] != null; i = (i + 1) & mask) {
+      int home = indexFor(tab[i], mask);
+      // Move the entry if its home slot is not within (gap, i] cyclically.
+      if (((i - home) & mask) >= ((i - gap) & mask)) {
+        tab[gap] = tab[i];
+        tab[i] = null;
+        gap = i;
+      }
+    }
+  }
+
+  private void resize() {
+    Object[] oldTable = table;
+    if (oldTable.length >= MAXIMUM_CAPACITY) {
+      throw new IllegalStateException("Too many elements in identity set.");
+    }
+    Object[] newTable = new Object[oldTable.length << 1];
+    int mask = newTable.length - 1;
+    for (Object obj : oldTable) {
+      if (obj != null) {
+        int i = indexFor(obj, mask);
+        while (newTable[i] != null) {
+          i = (i + 1) & mask;
+        }
+        newTable[i] = obj;
+      }
+    }
+    table = newTable;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("size", size)
+        .add("capacity", table.length)
+        .toString();
+  }
+}
@@ -26,6 +26,25 @@ import javax.annotation.Nullable;
  */
 interface InternalDescriber extends Describer {
 
+  /**
+   * <p>
+   * Describe the given value with at most {@code maxLength} characters. Once the description
+   * reaches that length, it is truncated with an {@link DescriberProperties#ELLIPSIS} and no
+   * further elements are described.
+   * </p>
+   *
+   * @param appendable appendable to write to
+   * @param value      value to describe
+   * @param maxDepth   maximum depth of nested values to describe
+   * @param maxCount   maximum number of elements to describe
+   * @param maxLength  maximum number of characters to write
+   */
+  void describeTo(@Nonnull Appendable appendable,
+                  @Nullable Object value,
+                  int maxDepth,
+                  int maxCount,
+                  int maxLength);
+
   void describeTo(@Nonnull Appendable appendable,
                   @Nullable Object value,
                   int maxCount,
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.core;
+
+import java.io.IOException;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.Locale;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import static java.util.FormattableFlags.LEFT_JUSTIFY;
+import static java.util.FormattableFlags.UPPERCASE;
+
+/**
+ * Description of a value which is rendered not before it is requested, e. g. by a logging
+ * framework: {@code LOG.debug("Processing {}", Describe.lazy(value, 3, 10))}.
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+public final class LazyDescription implements Formattable {
+
+  @Nullable
+  private final Object value;
+  private final int maxDepth;
+  private final int maxCount;
+  private final int maxLength;
+  @Nullable
+  private volatile String description;
+
+  LazyDescription(@Nullable Object value, int maxDepth, int maxCount, int maxLength) {
+    this.value = value;
+    this.maxDepth = maxDepth;
+    this.maxCount = maxCount;
+    this.maxLength = maxLength;
+  }
+
+  @Override
+  public void formatTo(Formatter formatter, int flags, int width, int precision) {
+    Appendable out = formatter.out();
+    String known = description;
+    if ((known == null) && (flags == 0) && (width == -1) && (precision == -1)) {
+      Describe.describeTo(out, value, maxDepth, maxCount, maxLength);
+      return;
+    }
+    String formatted = toString();
+    if ((precision > -1) && (precision < formatted.length())) {
+      formatted = formatted.substring(0, precision);
+    }
+    if ((flags & UPPERCASE) == UPPERCASE) {
+      Locale locale = formatter.locale();
+      formatted = formatted.toUpperCase((locale == null) ? Locale.ROOT : locale);
+    }
+    try {
+      boolean leftJustify = (flags & LEFT_JUSTIFY) == LEFT_JUSTIFY;
+      if (!leftJustify) {
+        pad(out, width - formatted.length());
+      }
+      out.append(formatted);
+      if (leftJustify) {
+        pad(out, width - formatted.length());
+      }
+    } catch (IOException e) {
+      throw DescriptionSink.appendFailed(out, e);
+    }
+  }
+
+  private static void pad(@Nonnull Appendable out, int count) throws IOException {
+    for (int i = 0; i < count; i++) {
+      out.append(' ');
+    }
+  }
+
+  /**
+   * The description of the value, rendered on first request and remembered.
+   */
+  @Override
+  public String toString() {
+    String known = description;
+    if (known == null) {
+      known = Describe.describe(value, maxDepth, maxCount, maxLength);
+      description = known;
+    }
+    return known;
+  }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.core;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BiConsumer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Describes the elements of a sized container in parallel chunks by forked consumers, appending
+ * the results in order.
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+@SuppressWarnings("NonSerializableFieldInSerializableClass")
+final class ParallelElementsDescription extends RecursiveAction {
+
+  private static final long serialVersionUID = 2400315425101823012L;
+  /**
+   * Balances chunks of differently expensive elements between workers.
+   */
+  private static final int CHUNKS_PER_THREAD = 4;
+
+  @Nonnull
+  private final Spliterator<?> elements;
+  private final long firstIndex;
+  @Nonnull
+  private final Context context;
+  @Nullable
+  private ParallelElementsDescription prefix;
+  @Nullable
+  private ParallelElementsDescription suffix;
+  @Nullable
+  private StringBuilder buffer;
+
+  private ParallelElementsDescription(@Nonnull Spliterator<?> elements, long firstIndex,
+                                      @Nonnull Context context) {
+    this.elements = elements;
+    this.firstIndex = firstIndex;
+    this.context = context;
+  }
+
+  /**
+   * Prepare parallel description of the given elements if enabled and there are at least
+   * {@code threshold} sized elements.
+   *
+   * @return {@code null} if the elements are to be described sequentially
+   */
+  @Nullable
+  static ParallelElementsDescription parallelDescription(
+      @Nonnull AbstractStreamDescriber describer, int threshold,
+      @Nonnull Spliterator<?> elements, @Nonnull Object parentObject, int maxCount,
+      @Nonnull BiConsumer<Object, Object> recursiveConsumer) {
+    if ((threshold <= DescriberProperties.UNLIMITED)
+        || !elements.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED)
+        || !(recursiveConsumer instanceof RecursiveDescriptionConsumer)
+        || !((RecursiveDescriptionConsumer) recursiveConsumer).isForkable()) {
+      return null;
+    }
+    long size = elements.getExactSizeIfKnown();
+    // Up to the element replaced by the ellipsis.
+    long count = (maxCount > DescriberProperties.UNLIMITED) ? Math.min(size, maxCount + 1L) : size;
+    if (count < Math.max(threshold, 2)) {
+      return null;
+    }
+    long chunkSize = Math.max(1L, count / (ForkJoinPool.getCommonPoolParallelism()
+                                           * CHUNKS_PER_THREAD));
+    Context context = new Context(describer, parentObject, maxCount, count, chunkSize,
+                                  (RecursiveDescriptionConsumer) recursiveConsumer);
+    return new ParallelElementsDescription(elements, 0L, context);
+  }
+
+  @Override
+  protected void compute() {
+    if (firstIndex >= context.count) {
+      return;
+    }
+    if (elements.estimateSize() > context.chunkSize) {
+      Spliterator<?> prefixElements = elements.trySplit();
+      if (prefixElements != null) {
+        prefix = new ParallelElementsDescription(prefixElements, firstIndex, context);
+        suffix = new ParallelElementsDescription(
+            elements, firstIndex + prefixElements.estimateSize(), context);
+        invokeAll(prefix, suffix);
+        return;
+      }
+    }
+    StringBuilder chunkBuffer = new StringBuilder();
+    DescriptionSink sink = DescriptionSink.sinkFor(chunkBuffer);
+    AbstractStreamDescriber.EllipsisConsumer elementConsumer =
+        new AbstractStreamDescriber.EllipsisConsumer(context.describer, sink,
+                                                     context.parentObject, firstIndex,
+                                                     context.maxCount,
+                                                     context.recursiveConsumer.fork(sink));
+    long index = firstIndex;
+    while ((index < context.count) && elements.tryAdvance(elementConsumer)) {
+      index++;
+    }
+    buffer = chunkBuffer;
+  }
+
+  /**
+   * Append the descriptions of all chunks in order, once this task completed.
+   */
+  void appendTo(@Nonnull DescriptionSink sink) {
+    if (buffer != null) {
+      sink.append(buffer);
+    }
+    if (prefix != null) {
+      prefix.appendTo(sink);
+    }
+    if (suffix != null) {
+      suffix.appendTo(sink);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("firstIndex", firstIndex)
+        .add("context", context)
+        .toString();
+  }
+
+  private static final class Context {
+
+    @Nonnull
+    private final AbstractStreamDescriber describer;
+    @Nonnull
+    private final Object parentObject;
+    private final int maxCount;
+    /**
+     * Including the element replaced by the ellipsis.
+     */
+    private final long count;
+    private final long chunkSize;
+    @Nonnull
+    private final RecursiveDescriptionConsumer recursiveConsumer;
+
+    private Context(@Nonnull AbstractStreamDescriber describer, @Nonnull Object parentObject,
+                    int maxCount, long count, long chunkSize,
+                    @Nonnull RecursiveDescriptionConsumer recursiveConsumer) {
+      this.describer = describer;
+      this.parentObject = parentObject;
+      this.maxCount = maxCount;
+      this.count = count;
+      this.chunkSize = chunkSize;
+      this.recursiveConsumer = recursiveConsumer;
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("describer", describer)
+          .add("maxCount", maxCount)
+          .add("count", count)
+          .add("chunkSize", chunkSize)
+          .toString();
+    }
+  }
+}
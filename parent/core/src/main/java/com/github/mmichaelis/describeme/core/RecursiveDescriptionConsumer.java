@@ -18,61 +18,336 @@ package com.github.mmichaelis.describeme.core;
 
 import com.google.common.base.MoreObjects;
 
-import java.util.Collection;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.function.BiConsumer;
 
 import javax.annotation.Nonnull;
-
-import static com.github.mmichaelis.describeme.core.AppendableUtil.silentAppend;
+import javax.annotation.Nullable;
 
 /**
+ * Describes nested values on an explicit stack of frames, taking care of depth and recursion.
+ *
  * @since $$SINCE:2015-03-19$$
  */
 class RecursiveDescriptionConsumer implements BiConsumer<Object, Object> {
 
-  private static final int DEJA_VU_INITIAL_CAPACITY = 16;
+  private static final int INITIAL_FRAMES = 16;
+
+  @Nonnull
+  private DescriptionSink sink;
+  @Nullable
+  private DescriptionSink.LimitedSink limitedSink;
+  @Nullable
+  private DescriptionSink.CountingSink countingSink;
+  private int maxDepth;
+  private int maxCount;
+  private int maxLength;
+  /**
+   * Parents of the current value, compared by identity.
+   */
+  @Nonnull
+  private final IdentitySet dejaVu;
   @Nonnull
-  private final Appendable appendable;
-  private final int maxDepth;
-  private final int maxCount;
-  private final Collection<Object> dejaVu = new HashSet<>(DEJA_VU_INITIAL_CAPACITY);
+  private DescriberRegistry registry;
+  @Nullable
+  private DescriptionFrame currentFrame;
   private int currentDepth;
+  @Nonnull
+  private DescriptionFrame[] frames = new DescriptionFrame[INITIAL_FRAMES];
+  private int frameCount;
+  @Nonnull
+  private final BiConsumer<Object, Object> entering = this::enter;
+
+  RecursiveDescriptionConsumer(@Nonnull DescriptionSink sink, int maxDepth, int maxCount,
+                               int maxLength) {
+    dejaVu = new IdentitySet(maxDepth);
+    reset(sink, maxDepth, maxCount, maxLength);
+  }
+
+  private RecursiveDescriptionConsumer(@Nonnull RecursiveDescriptionConsumer parent,
+                                       @Nonnull DescriptionSink sink) {
+    if (DescriberProperties.METRICS_ENABLED) {
+      countingSink = new DescriptionSink.CountingSink(sink);
+      this.sink = countingSink;
+    } else {
+      this.sink = sink;
+    }
+    maxDepth = parent.maxDepth;
+    maxCount = parent.maxCount;
+    maxLength = parent.maxLength;
+    dejaVu = new IdentitySet(parent.dejaVu);
+    registry = parent.registry;
+    // Frames are not shared between threads.
+    currentFrame = null;
+    currentDepth = parent.currentDepth;
+  }
 
-  RecursiveDescriptionConsumer(@Nonnull Appendable appendable, int maxDepth, int maxCount) {
-    this.appendable = appendable;
-    this.maxDepth = maxDepth;
-    this.maxCount = maxCount;
+  /**
+   * Siblings of length limited descriptions cannot be forked, as the budget depends on the
+   * output of all preceding siblings.
+   */
+  boolean isForkable() {
+    return maxLength <= DescriberProperties.UNLIMITED;
+  }
+
+  /**
+   * Create a consumer in the same state, which describes to the given sink instead.
+   */
+  @Nonnull
+  RecursiveDescriptionConsumer fork(@Nonnull DescriptionSink forkSink) {
+    assert isForkable() : "Length limited descriptions must not be forked.";
+    return new RecursiveDescriptionConsumer(this, forkSink);
   }
 
 
+  @Nonnull
+  DescriptionSink sink() {
+    return sink;
+  }
+
+  /**
+   * Prepare this consumer for reuse by another description.
+   */
+  @SuppressWarnings("ParameterHidesMemberVariable")
+  void reset(@Nonnull DescriptionSink target, int newDepth, int newCount, int newLength) {
+    DescriptionSink counted = target;
+    if (DescriberProperties.METRICS_ENABLED) {
+      if (countingSink == null) {
+        countingSink = new DescriptionSink.CountingSink(target);
+      } else {
+        countingSink.reset(target);
+      }
+      counted = countingSink;
+    }
+    if (newLength <= DescriberProperties.UNLIMITED) {
+      sink = counted;
+    } else if (limitedSink == null) {
+      limitedSink = new DescriptionSink.LimitedSink(counted, newLength);
+      sink = limitedSink;
+    } else {
+      sink = limitedSink.reset(counted, newLength);
+    }
+    maxDepth = newDepth;
+    maxCount = newCount;
+    maxLength = newLength;
+    dejaVu.clear();
+    registry = DescriberRegistry.describerRegistry();
+    currentFrame = null;
+    currentDepth = 0;
+    Arrays.fill(frames, 0, frameCount, null);
+    frameCount = 0;
+  }
+
+  /**
+   * Drop references to the sink of the last description, so that it is not kept reachable.
+   */
+  void detach(@Nonnull DescriptionSink idle) {
+    sink = idle;
+    if (limitedSink != null) {
+      limitedSink.reset(idle, 0);
+    }
+    if (countingSink != null) {
+      countingSink.reset(idle);
+    }
+  }
+
+  /**
+   * Number of characters written so far; {@code 0} if metrics are disabled.
+   */
+  long charactersWritten() {
+    return (countingSink == null) ? 0L : countingSink.count();
+  }
+
   @Override
   public void accept(Object me, Object other) {
+    int base = frameCount;
+    enter(me, other);
+    runFrames(base);
+  }
+
+  void describe(@Nonnull Appendable appendable, @Nullable Object value, int maxCount) {
+    int base = frameCount;
+    describeValue(appendable, value, maxCount);
+    runFrames(base);
+  }
+
+  /**
+   * Start to describe the given value, leaving nested values to subsequent {@link #step()
+   * steps}.
+   */
+  void start(@Nonnull Appendable appendable, @Nullable Object value, int maxCount) {
+    describeValue(appendable, value, maxCount);
+  }
+
+  /**
+   * Describe at most one more nested value.
+   *
+   * @return {@code true} if the description is not complete yet
+   */
+  boolean step() {
+    if (frameCount == 0) {
+      return false;
+    }
+    DescriptionFrame parentFrame = currentFrame;
+    try {
+      stepFrame();
+    } finally {
+      currentFrame = parentFrame;
+    }
+    return frameCount > 0;
+  }
+
+  /**
+   * Describe a nested value, unless beyond maximum depth or already being described.
+   */
+  private void enter(@Nullable Object me, @Nullable Object other) {
+    if (sink.isExhausted()) {
+      return;
+    }
     if (isMaxDepthReached()) {
-      silentAppend(appendable, DescriberProperties.ELLIPSIS);
+      sink.append(DescriberProperties.ELLIPSIS);
+      if (DescriberProperties.METRICS_ENABLED) {
+        DescriberMetrics.maxDepthReached();
+      }
       return;
     }
     remember(me);
     down();
+    DescriptionFrame frame = null;
     try {
       if (dejaVu.contains(other)) {
-        silentAppend(appendable, DescriberProperties.ELLIPSIS);
+        sink.append(DescriberProperties.ELLIPSIS);
+        if (DescriberProperties.METRICS_ENABLED) {
+          DescriberMetrics.cycleDetected();
+        }
       } else {
-        Describe.describeTo(appendable, other, maxCount, this);
+        frame = describeValue(sink, other, maxCount);
+      }
+    } finally {
+      if (frame == null) {
+        up();
+        forget(me);
+      }
+    }
+    if (frame != null) {
+      frame.parentObject = me;
+      frame.entered = true;
+    }
+  }
+
+  /**
+   * Describe the given value, or push a frame to describe it.
+   *
+   * @return the frame pushed; {@code null} if the value has been described completely
+   */
+  @Nullable
+  private DescriptionFrame describeValue(@Nonnull Appendable appendable, @Nullable Object value,
+                                         int maxCount) {
+    DescriptionFrame parentFrame = currentFrame;
+    DescriberPlan plan = (parentFrame == null)
+                         ? registry.planFor(value)
+                         : parentFrame.elementPlanFor(value, registry);
+    Describer describer = plan.describerFor(value);
+    if (describer instanceof FramedDescriber) {
+      long charactersBefore = charactersWritten();
+      long start = DescriberProperties.METRICS_ENABLED ? System.nanoTime() : 0L;
+      currentFrame = null;
+      DescriptionFrame frame;
+      try {
+        frame = ((FramedDescriber) describer)
+            .startDescription(DescriptionSink.sinkFor(appendable), value, maxCount, this);
+      } finally {
+        currentFrame = parentFrame;
+      }
+      if (frame == null) {
+        if (DescriberProperties.METRICS_ENABLED) {
+          DescriberMetrics.described(describer, System.nanoTime() - start,
+                                     charactersWritten() - charactersBefore);
+        }
+        return null;
+      }
+      frame.startNanos = start;
+      frame.charactersBefore = charactersBefore;
+      push(frame);
+      return frame;
+    }
+    currentFrame = null;
+    try {
+      plan.describeTo(appendable, value, maxCount, this);
+    } finally {
+      currentFrame = parentFrame;
+    }
+    return null;
+  }
+
+  /**
+   * Run frames until the frames pushed after {@code base} are finished.
+   */
+  private void runFrames(int base) {
+    if (frameCount <= base) {
+      return;
+    }
+    DescriptionFrame parentFrame = currentFrame;
+    boolean completed = false;
+    try {
+      while (frameCount > base) {
+        stepFrame();
       }
+      completed = true;
     } finally {
+      currentFrame = parentFrame;
+      if (!completed) {
+        unwind(base);
+      }
+    }
+  }
+
+  private void stepFrame() {
+    DescriptionFrame frame = frames[frameCount - 1];
+    currentFrame = frame;
+    if (!frame.step(entering)) {
+      frame.finish();
+      pop();
+      if (DescriberProperties.METRICS_ENABLED) {
+        DescriberMetrics.described(frame.describer(), System.nanoTime() - frame.startNanos,
+                                   charactersWritten() - frame.charactersBefore);
+      }
+    }
+  }
+
+  private void push(@Nonnull DescriptionFrame frame) {
+    if (frameCount == frames.length) {
+      frames = Arrays.copyOf(frames, frameCount << 1);
+    }
+    frames[frameCount] = frame;
+    frameCount++;
+  }
+
+  private void pop() {
+    frameCount--;
+    DescriptionFrame frame = frames[frameCount];
+    frames[frameCount] = null;
+    if (frame.entered) {
       up();
-      forget(me);
+      forget(frame.parentObject);
+    }
+  }
+
+  private void unwind(int base) {
+    while (frameCount > base) {
+      pop();
     }
   }
 
   @Override
   public String toString() {
     return MoreObjects.toStringHelper(this)
-        .add("appendable", appendable)
+        .add("sink", sink)
         .add("maxDepth", maxDepth)
         .add("maxCount", maxCount)
+        .add("maxLength", maxLength)
         .add("currentDepth", currentDepth)
+        .add("frameCount", frameCount)
         .add("dejaVu", dejaVu)
         .toString();
   }
@@ -97,7 +372,7 @@ class RecursiveDescriptionConsumer implements BiConsumer<Object, Object> {
     }
   }
 
-  private boolean isMaxDepthReached() {
+  boolean isMaxDepthReached() {
     return currentDepth == maxDepth;
   }
 }
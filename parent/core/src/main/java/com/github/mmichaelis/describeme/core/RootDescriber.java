@@ -16,60 +16,26 @@
 
 package com.github.mmichaelis.describeme.core;
 
-import org.slf4j.Logger;
-
-import java.util.Optional;
-import java.util.ServiceLoader;
 import java.util.function.BiConsumer;
-import java.util.stream.StreamSupport;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import static java.util.stream.Collectors.joining;
-import static org.slf4j.LoggerFactory.getLogger;
+import static com.github.mmichaelis.describeme.core.DescriberRegistry.describerRegistry;
 
 /**
  * @since $$SINCE:2015-03-18$$
  */
 final class RootDescriber extends AbstractDescriber {
 
-  private static final Logger LOG = getLogger(RootDescriber.class);
-
   @SuppressWarnings("StaticVariableOfConcreteClass")
   private static final InternalDescriber INSTANCE = new RootDescriber();
 
-  private static final ServiceLoader<Describer> DESCRIBER_SERVICE_LOADER;
-  private static final Describer FALLBACK_DESCRIBER = new DefaultDescriber();
-
-  static {
-    DESCRIBER_SERVICE_LOADER = ServiceLoader.load(Describer.class);
-    LOG.info("Registered describers:\n\t{}",
-             StreamSupport.stream(DESCRIBER_SERVICE_LOADER.spliterator(), false)
-                 .map(obj -> obj.getClass().getName())
-                 .collect(joining(",\n\t")));
-  }
-
   @Nonnull
   public static InternalDescriber rootDescriber() {
     return INSTANCE;
   }
 
-  @Nonnull
-  private static Optional<Describer> getDescriberFor(@Nullable Object object) {
-    return StreamSupport
-        .stream(DESCRIBER_SERVICE_LOADER.spliterator(), false)
-        .filter(describer -> describer.test(object))
-        .findFirst();
-  }
-
-  @Nonnull
-  private static Describer describerFor(@Nullable Object object) {
-    Describer describer = getDescriberFor(object).orElse(FALLBACK_DESCRIBER);
-    LOG.debug("Provided describer for {}: {}", object, describer);
-    return describer;
-  }
-
   @Override
   public boolean test(@Nullable Object value) {
     return true;
@@ -79,8 +45,11 @@ final class RootDescriber extends AbstractDescriber {
   protected void internalDescribeTo(@Nonnull Appendable appendable, @Nullable Object value,
                                     int maxCount,
                                     @Nonnull BiConsumer<Object, Object> recursiveConsumer) {
-    ((InternalDescriber) describerFor(value))
-        .describeTo(appendable, value, maxCount, recursiveConsumer);
+    if (recursiveConsumer instanceof RecursiveDescriptionConsumer) {
+      ((RecursiveDescriptionConsumer) recursiveConsumer).describe(appendable, value, maxCount);
+    } else {
+      describerRegistry().planFor(value).describeTo(appendable, value, maxCount, recursiveConsumer);
+    }
   }
 
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.core;
+
+import org.junit.Test;
+
+import java.util.function.BiConsumer;
+
+import javax.annotation.Nonnull;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Frames cache the plan of the class of their first element.
+ */
+public class DescriptionFrameTest {
+
+  @Test
+  public void elementPlanCachedDespiteMixedElements() throws Exception {
+    DescriberRegistry registry = DescriberRegistry.describerRegistry();
+    DescriptionFrame frame = new EmptyFrame();
+    DescriberPlan plan = frame.elementPlanFor(1, registry);
+    frame.elementPlanFor("mixed", registry);
+    frame.elementPlanFor(null, registry);
+    assertThat("cached type", frame.elementType, equalTo((Object) Integer.class));
+    assertThat("cache hit", frame.elementPlanFor(2, registry), sameInstance(plan));
+  }
+
+  @Test
+  public void elementPlanCachedPerFrame() throws Exception {
+    DescriberRegistry registry = DescriberRegistry.describerRegistry();
+    DescriptionFrame mixed = new EmptyFrame();
+    mixed.elementPlanFor("mixed", registry);
+    mixed.elementPlanFor(1, registry);
+    DescriptionFrame numbers = new EmptyFrame();
+    numbers.elementPlanFor(1, registry);
+    assertThat("cached type", numbers.elementType, equalTo((Object) Integer.class));
+    assertThat("other frame unaffected", mixed.elementType, equalTo((Object) String.class));
+  }
+
+  private static final class EmptyFrame extends DescriptionFrame {
+
+    @Nonnull
+    @Override
+    Describer describer() {
+      return new DefaultDescriber();
+    }
+
+    @Override
+    boolean step(@Nonnull BiConsumer<Object, Object> elementConsumer) {
+      return false;
+    }
+
+    @Override
+    void finish() {
+    }
+  }
+}
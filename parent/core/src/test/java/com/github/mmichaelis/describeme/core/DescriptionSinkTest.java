@@ -0,0 +1,92 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.core;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+@RunWith(Parameterized.class)
+public class DescriptionSinkTest {
+
+  private final Supplier<Appendable> targetSupplier;
+  private final Function<Appendable, String> contentFunction;
+
+  public DescriptionSinkTest(@Nonnull String name,
+                             @Nonnull Supplier<Appendable> targetSupplier,
+                             @Nonnull Function<Appendable, String> contentFunction) {
+    this.targetSupplier = targetSupplier;
+    this.contentFunction = contentFunction;
+  }
+
+  @Nonnull
+  @Parameters(name = "Test {index}: {0}")
+  public static Collection<Object[]> data() {
+    return Arrays.asList(
+        new Object[][]{
+            {"StringBuilder", (Supplier<Appendable>) StringBuilder::new,
+             (Function<Appendable, String>) Object::toString},
+            {"Writer", (Supplier<Appendable>) StringWriter::new,
+             (Function<Appendable, String>) Object::toString},
+            {"Appendable", (Supplier<Appendable>) StringBuffer::new,
+             (Function<Appendable, String>) Object::toString},
+        }
+    );
+  }
+
+  @Test
+  public void sinkForSinkIsSame() throws Exception {
+    DescriptionSink sink = DescriptionSink.sinkFor(targetSupplier.get());
+    assertThat("no new sink for sink", DescriptionSink.sinkFor(sink), sameInstance(sink));
+  }
+
+  @Test
+  public void appendTypedValues() throws Exception {
+    Appendable target = targetSupplier.get();
+    DescriptionSink.sinkFor(target)
+        .append('[')
+        .appendInt(0)
+        .append(", ")
+        .appendInt(Integer.MIN_VALUE)
+        .append(", ")
+        .appendLong(Long.MIN_VALUE)
+        .append(", ")
+        .appendLong(Long.MAX_VALUE)
+        .append(", ")
+        .appendBoolean(true)
+        .append(", ")
+        .append(new StringBuilder("Lorem Ipsum"), 6, 11)
+        .append(", ")
+        .append((CharSequence) null)
+        .append(']');
+    assertThat("appended content", contentFunction.apply(target),
+               is("[0, -2147483648, -9223372036854775808, 9223372036854775807, true, Ipsum, null]"));
+  }
+}
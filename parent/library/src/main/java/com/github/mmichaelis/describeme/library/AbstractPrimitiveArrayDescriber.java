@@ -0,0 +1,81 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mmichaelis.describeme.library;
+
+import com.github.mmichaelis.describeme.core.AbstractDescriber;
+import com.github.mmichaelis.describeme.core.DescriberMetrics;
+import com.github.mmichaelis.describeme.core.DescriberProperties;
+import com.github.mmichaelis.describeme.core.DescriptionSink;
+
+import java.util.function.BiConsumer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import static com.github.mmichaelis.describeme.core.DescriberProperties.ELLIPSIS;
+
+/**
+ * Describes arrays of primitive values without boxing them.
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+abstract class AbstractPrimitiveArrayDescriber extends AbstractDescriber {
+
+  static int describedLength(int length, int maxCount) {
+    return (maxCount <= DescriberProperties.UNLIMITED) ? length : Math.min(length, maxCount);
+  }
+
+  @Override
+  public boolean isValueDependent() {
+    return false;
+  }
+
+  @Override
+  protected void internalDescribeTo(@Nonnull Appendable appendable, @Nullable Object value,
+                                    int maxCount,
+                                    @Nonnull BiConsumer<Object, Object> recursiveConsumer) {
+    assert value != null : "value must not be null. Did you call test() before?";
+    DescriptionSink sink = DescriptionSink.sinkFor(appendable);
+    int length = length(value);
+    int describedLength = describedLength(length, maxCount);
+    boolean maxDepthReached = isMaxDepthReached(recursiveConsumer);
+    sink.append('[');
+    for (int i = 0; (i < describedLength) && !sink.isExhausted(); i++) {
+      if (i > 0) {
+        sink.append(", ");
+      }
+      if (maxDepthReached) {
+        sink.append(ELLIPSIS);
+      } else {
+        appendElement(sink, value, i);
+      }
+    }
+    if (describedLength < length) {
+      if (describedLength > 0) {
+        sink.append(", ");
+      }
+      sink.append(ELLIPSIS);
+      DescriberMetrics.truncated(this);
+    }
+    sink.append(']');
+  }
+
+  protected abstract int length(@Nonnull Object array);
+
+  protected abstract void appendElement(@Nonnull DescriptionSink sink, @Nonnull Object array,
+                                        int index);
+
+}
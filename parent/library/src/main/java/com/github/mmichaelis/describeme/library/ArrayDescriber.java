@@ -17,8 +17,10 @@
 package com.github.mmichaelis.describeme.library;
 
 import com.github.mmichaelis.describeme.core.AbstractStreamDescriber;
+import com.github.mmichaelis.describeme.core.Describes;
 
 import java.util.Arrays;
+import java.util.Spliterator;
 import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
@@ -27,11 +29,17 @@ import javax.annotation.Nullable;
 /**
  * @since $$SINCE:2015-03-16$$
  */
+@Describes(value = Object[].class, order = 700)
 public class ArrayDescriber extends AbstractStreamDescriber {
 
   @Override
   public boolean test(@Nullable Object value) {
-    return (value != null) && value.getClass().isArray();
+    return value instanceof Object[];
+  }
+
+  @Override
+  public boolean isValueDependent() {
+    return false;
   }
 
   @Nonnull
@@ -41,4 +49,26 @@ public class ArrayDescriber extends AbstractStreamDescriber {
     return Arrays.stream(array);
   }
 
+  @Nonnull
+  @Override
+  protected Spliterator<?> valueAsSpliterator(@Nonnull Object value) {
+    return Arrays.spliterator((Object[]) value);
+  }
+
+  @Override
+  protected int knownSize(@Nonnull Object value) {
+    return ((Object[]) value).length;
+  }
+
+  @Override
+  protected boolean isRandomAccess(@Nonnull Object value) {
+    return true;
+  }
+
+  @Nullable
+  @Override
+  protected Object elementAt(@Nonnull Object value, int index) {
+    return ((Object[]) value)[index];
+  }
+
 }
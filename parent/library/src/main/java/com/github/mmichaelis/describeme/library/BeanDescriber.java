@@ -0,0 +1,208 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.library;
+
+import com.github.mmichaelis.describeme.core.AbstractFieldsDescriber;
+import com.github.mmichaelis.describeme.core.Describable;
+import com.github.mmichaelis.describeme.core.DescriberException;
+import com.github.mmichaelis.describeme.core.Describes;
+import com.github.mmichaelis.describeme.core.NotDescribed;
+
+import org.slf4j.Logger;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import static java.text.MessageFormat.format;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Describes instances of {@link Describable} types by their fields via cached method handles,
+ * unless the annotation processor generated a describer for them.
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+@Describes(value = Describable.class, order = 100)
+public class BeanDescriber extends AbstractFieldsDescriber {
+
+  private static final Logger LOG = getLogger(BeanDescriber.class);
+  private static final String GENERATED_SUFFIX = "_Describer";
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final Property[] NO_PROPERTIES = {};
+  private static final ClassValue<Bean> BEANS = new ClassValue<Bean>() {
+    @Override
+    protected Bean computeValue(Class<?> type) {
+      return Bean.of(type);
+    }
+  };
+
+  @Override
+  public boolean test(@Nullable Object value) {
+    return (value != null) && BEANS.get(value.getClass()).isDescribable();
+  }
+
+  @Override
+  public boolean isValueDependent() {
+    return false;
+  }
+
+  @Nonnull
+  @Override
+  protected String typeName(@Nonnull Object value) {
+    return BEANS.get(value.getClass()).name;
+  }
+
+  @Override
+  protected int fieldCount(@Nonnull Object value) {
+    return propertiesOf(value).length;
+  }
+
+  @Nonnull
+  @Override
+  protected String fieldName(@Nonnull Object value, int index) {
+    return propertiesOf(value)[index].name;
+  }
+
+  @Nullable
+  @Override
+  protected Object fieldValue(@Nonnull Object value, int index) {
+    return propertiesOf(value)[index].get(value);
+  }
+
+  @Nonnull
+  private static Property[] propertiesOf(@Nonnull Object value) {
+    Property[] properties = BEANS.get(value.getClass()).properties;
+    assert properties != null : "value must be describable. Did you call test() before?";
+    return properties;
+  }
+
+  /**
+   * Fields to describe of one class.
+   */
+  private static final class Bean {
+
+    private static final Bean NOT_DESCRIBABLE = new Bean("", null);
+
+    @Nonnull
+    private final String name;
+    @Nullable
+    private final Property[] properties;
+
+    private Bean(@Nonnull String name, @Nullable Property[] properties) {
+      this.name = name;
+      this.properties = properties;
+    }
+
+    @Nonnull
+    private static Bean of(@Nonnull Class<?> type) {
+      if (!type.isAnnotationPresent(Describable.class) || hasGeneratedDescriber(type)) {
+        return NOT_DESCRIBABLE;
+      }
+      String simpleName = type.getSimpleName();
+      String name = simpleName.isEmpty() ? type.getName() : simpleName;
+      try {
+        return new Bean(name, propertiesOf(type));
+      } catch (IllegalAccessException | RuntimeException e) {
+        LOG.warn("Unable to access fields of {}; it is not described by its fields.",
+                 type.getName(), e);
+        return NOT_DESCRIBABLE;
+      }
+    }
+
+    private static boolean hasGeneratedDescriber(@Nonnull Class<?> type) {
+      Package pkg = type.getPackage();
+      String prefix = (pkg == null) ? "" : (pkg.getName() + '.');
+      String flatName = type.getName().substring(prefix.length()).replace('$', '_');
+      try {
+        Class.forName(prefix + flatName + GENERATED_SUFFIX, false, type.getClassLoader());
+        return true;
+      } catch (ClassNotFoundException ignored) {
+        return false;
+      }
+    }
+
+    @Nonnull
+    private static Property[] propertiesOf(@Nonnull Class<?> type)
+        throws IllegalAccessException {
+      Deque<Class<?>> hierarchy = new ArrayDeque<>();
+      for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+        hierarchy.push(current);
+      }
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      List<Property> properties = new ArrayList<>();
+      for (Class<?> declaring : hierarchy) {
+        for (Field field : declaring.getDeclaredFields()) {
+          if (isDescribed(field)) {
+            field.setAccessible(true);
+            MethodHandle getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+            properties.add(new Property(field.getName(), getter));
+          }
+        }
+      }
+      return properties.isEmpty() ? NO_PROPERTIES : properties.toArray(NO_PROPERTIES);
+    }
+
+    private static boolean isDescribed(@Nonnull Field field) {
+      int modifiers = field.getModifiers();
+      return !Modifier.isStatic(modifiers)
+             && !Modifier.isTransient(modifiers)
+             && !field.isSynthetic()
+             && !field.isAnnotationPresent(NotDescribed.class);
+    }
+
+    private boolean isDescribable() {
+      return properties != null;
+    }
+  }
+
+  private static final class Property {
+
+    @Nonnull
+    private final String name;
+    /**
+     * Getter of type {@code (Object)Object}, so that it may be invoked exactly.
+     */
+    @Nonnull
+    private final MethodHandle getter;
+
+    private Property(@Nonnull String name, @Nonnull MethodHandle getter) {
+      this.name = name;
+      this.getter = getter;
+    }
+
+    @Nullable
+    private Object get(@Nonnull Object bean) {
+      try {
+        return (Object) getter.invokeExact(bean);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable t) {
+        throw new DescriberException(format("Unable to read field {0}.", name), t);
+      }
+    }
+  }
+}
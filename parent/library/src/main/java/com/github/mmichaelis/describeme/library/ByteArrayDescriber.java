@@ -0,0 +1,148 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mmichaelis.describeme.library;
+
+import com.github.mmichaelis.describeme.core.DescriberMetrics;
+import com.github.mmichaelis.describeme.core.Describes;
+import com.github.mmichaelis.describeme.core.DescriptionSink;
+
+import org.slf4j.Logger;
+
+import java.util.Locale;
+import java.util.function.BiConsumer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import static com.github.mmichaelis.describeme.core.DescriberProperties.ELLIPSIS;
+import static java.util.Objects.requireNonNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Describes byte arrays in the {@link Format format} given by system property
+ * {@value #FORMAT_PROPERTY}; {@link Format#DECIMAL} by default.
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+@Describes(value = byte[].class, order = 810)
+public class ByteArrayDescriber extends AbstractPrimitiveArrayDescriber {
+
+  public static final String FORMAT_PROPERTY = "describe.bytes.format";
+  private static final Logger LOG = getLogger(ByteArrayDescriber.class);
+  @SuppressWarnings("AccessOfSystemProperties")
+  private static final Format DEFAULT_FORMAT = formatOf(System.getProperty(FORMAT_PROPERTY));
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+  private static final String HEX_PREFIX = "0x";
+  private static final int NIBBLE_BITS = 4;
+  private static final int NIBBLE_MASK = 0x0f;
+
+  @Nonnull
+  private final Format format;
+
+  public ByteArrayDescriber() {
+    this(DEFAULT_FORMAT);
+  }
+
+  public ByteArrayDescriber(@Nonnull Format format) {
+    this.format = requireNonNull(format, "format must be given.");
+  }
+
+  @Nonnull
+  private static Format formatOf(@Nullable String name) {
+    if (name == null) {
+      return Format.DECIMAL;
+    }
+    try {
+      return Format.valueOf(name.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      LOG.warn("Unknown format {} of property {}; using {}.", name, FORMAT_PROPERTY,
+               Format.DECIMAL, e);
+      return Format.DECIMAL;
+    }
+  }
+
+  private static void appendHex(@Nonnull DescriptionSink sink, byte value) {
+    sink.append(HEX_DIGITS[(value >> NIBBLE_BITS) & NIBBLE_MASK])
+        .append(HEX_DIGITS[value & NIBBLE_MASK]);
+  }
+
+  @Override
+  public boolean test(@Nullable Object value) {
+    return value instanceof byte[];
+  }
+
+  @Override
+  protected void internalDescribeTo(@Nonnull Appendable appendable, @Nullable Object value,
+                                    int maxCount,
+                                    @Nonnull BiConsumer<Object, Object> recursiveConsumer) {
+    if (format != Format.COMPACT) {
+      super.internalDescribeTo(appendable, value, maxCount, recursiveConsumer);
+      return;
+    }
+    assert value != null : "value must not be null. Did you call test() before?";
+    byte[] bytes = (byte[]) value;
+    DescriptionSink sink = DescriptionSink.sinkFor(appendable);
+    int describedLength = describedLength(bytes.length, maxCount);
+    sink.append(HEX_PREFIX);
+    if (isMaxDepthReached(recursiveConsumer)) {
+      // A single number, thus there are no elements to replace by ellipses one by one.
+      if (bytes.length > 0) {
+        sink.append(ELLIPSIS);
+      }
+      return;
+    }
+    for (int i = 0; (i < describedLength) && !sink.isExhausted(); i++) {
+      appendHex(sink, bytes[i]);
+    }
+    if (describedLength < bytes.length) {
+      sink.append(ELLIPSIS);
+      DescriberMetrics.truncated(this);
+    }
+  }
+
+  @Override
+  protected int length(@Nonnull Object array) {
+    return ((byte[]) array).length;
+  }
+
+  @Override
+  protected void appendElement(@Nonnull DescriptionSink sink, @Nonnull Object array, int index) {
+    byte element = ((byte[]) array)[index];
+    if (format == Format.HEX) {
+      appendHex(sink.append(HEX_PREFIX), element);
+    } else {
+      NumberRenderer.appendLong(sink, element);
+    }
+  }
+
+  /**
+   * Formats to describe byte arrays with.
+   */
+  public enum Format {
+    /**
+     * Decimal elements like for other numeric arrays: {@code [1, 127, -1]}
+     */
+    DECIMAL,
+    /**
+     * Hexadecimal elements: {@code [0x01, 0x7f, 0xff]}
+     */
+    HEX,
+    /**
+     * All bytes as one hexadecimal number without separators: {@code 0x017fff}
+     */
+    COMPACT
+  }
+}
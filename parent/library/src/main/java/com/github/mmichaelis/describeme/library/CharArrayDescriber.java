@@ -0,0 +1,45 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mmichaelis.describeme.library;
+
+import com.github.mmichaelis.describeme.core.Describes;
+import com.github.mmichaelis.describeme.core.DescriptionSink;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * @since $$SINCE:2026-10-18$$
+ */
+@Describes(value = char[].class, order = 820)
+public class CharArrayDescriber extends AbstractPrimitiveArrayDescriber {
+
+  @Override
+  public boolean test(@Nullable Object value) {
+    return value instanceof char[];
+  }
+
+  @Override
+  protected int length(@Nonnull Object array) {
+    return ((char[]) array).length;
+  }
+
+  @Override
+  protected void appendElement(@Nonnull DescriptionSink sink, @Nonnull Object array, int index) {
+    sink.append('\'').append(((char[]) array)[index]).append('\'');
+  }
+
+}
@@ -17,7 +17,8 @@
 package com.github.mmichaelis.describeme.library;
 
 import com.github.mmichaelis.describeme.core.AbstractDescriber;
-import com.github.mmichaelis.describeme.core.AppendableUtil;
+import com.github.mmichaelis.describeme.core.Describes;
+import com.github.mmichaelis.describeme.core.DescriptionSink;
 
 import java.util.function.BiConsumer;
 
@@ -27,6 +28,7 @@ import javax.annotation.Nullable;
 /**
  * @since $$SINCE:2015-03-16$$
  */
+@Describes(value = Character.class, order = 1100)
 public class CharacterDescriber extends AbstractDescriber {
 
   @Override
@@ -34,12 +36,21 @@ public class CharacterDescriber extends AbstractDescriber {
     return value instanceof Character;
   }
 
+  @Override
+  public boolean isValueDependent() {
+    return false;
+  }
+
   @Override
   protected void internalDescribeTo(@Nonnull Appendable appendable,
                                     @Nullable Object value,
                                     int maxCount,
                                     @Nonnull BiConsumer<Object, Object> recursiveConsumer) {
-    AppendableUtil.silentAppend(appendable, "'", value, "'");
+    assert value != null : "value must not be null. Did you call test() before?";
+    DescriptionSink.sinkFor(appendable)
+        .append('\'')
+        .append(((Character) value).charValue())
+        .append('\'');
   }
 
 }
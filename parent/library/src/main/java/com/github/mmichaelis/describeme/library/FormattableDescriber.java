@@ -17,6 +17,7 @@
 package com.github.mmichaelis.describeme.library;
 
 import com.github.mmichaelis.describeme.core.AbstractDescriber;
+import com.github.mmichaelis.describeme.core.Describes;
 
 import java.util.Formattable;
 import java.util.Formatter;
@@ -29,6 +30,7 @@ import javax.annotation.Nullable;
 /**
  * @since $$SINCE:2015-03-16$$
  */
+@Describes(value = Formattable.class, order = 200)
 public class FormattableDescriber extends AbstractDescriber {
 
   @Override
@@ -36,6 +38,11 @@ public class FormattableDescriber extends AbstractDescriber {
     return value instanceof Formattable;
   }
 
+  @Override
+  public boolean isValueDependent() {
+    return false;
+  }
+
   @Override
   protected void internalDescribeTo(@Nonnull Appendable appendable,
                                     @Nullable Object value,
@@ -17,7 +17,12 @@
 package com.github.mmichaelis.describeme.library;
 
 import com.github.mmichaelis.describeme.core.AbstractStreamDescriber;
+import com.github.mmichaelis.describeme.core.Describes;
 
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
 import java.util.Spliterator;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -25,9 +30,12 @@ import java.util.stream.StreamSupport;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import static com.github.mmichaelis.describeme.core.DescriberProperties.UNLIMITED;
+
 /**
  * @since $$SINCE:2015-03-16$$
  */
+@Describes(value = Iterable.class, order = 300)
 public class IterableDescriber extends AbstractStreamDescriber {
 
   @Override
@@ -35,6 +43,11 @@ public class IterableDescriber extends AbstractStreamDescriber {
     return value instanceof Iterable<?>;
   }
 
+  @Override
+  public boolean isValueDependent() {
+    return false;
+  }
+
   @Nonnull
   @Override
   protected Stream<?> valueAsStream(@Nonnull Object value) {
@@ -43,4 +56,32 @@ public class IterableDescriber extends AbstractStreamDescriber {
     return StreamSupport.stream(spliterator, false);
   }
 
+  @Nonnull
+  @Override
+  protected Spliterator<?> valueAsSpliterator(@Nonnull Object value) {
+    return ((Iterable<?>) value).spliterator();
+  }
+
+  @Override
+  protected int knownSize(@Nonnull Object value) {
+    return (value instanceof Collection<?>) ? ((Collection<?>) value).size() : UNLIMITED;
+  }
+
+  @Override
+  protected boolean isRandomAccess(@Nonnull Object value) {
+    return (value instanceof List<?>) && (value instanceof RandomAccess);
+  }
+
+  @Nullable
+  @Override
+  protected Object elementAt(@Nonnull Object value, int index) {
+    return ((List<?>) value).get(index);
+  }
+
+  @Nonnull
+  @Override
+  protected Iterator<?> valueAsIterator(@Nonnull Object value) {
+    return ((Iterable<?>) value).iterator();
+  }
+
 }
@@ -17,6 +17,7 @@
 package com.github.mmichaelis.describeme.library;
 
 import com.github.mmichaelis.describeme.core.AbstractStreamDescriber;
+import com.github.mmichaelis.describeme.core.Describes;
 
 import java.util.Iterator;
 import java.util.Spliterator;
@@ -30,6 +31,7 @@ import javax.annotation.Nullable;
 /**
  * @since $$SINCE:2015-03-16$$
  */
+@Describes(value = Iterator.class, order = 400)
 public class IteratorDescriber extends AbstractStreamDescriber {
 
   @Override
@@ -37,6 +39,11 @@ public class IteratorDescriber extends AbstractStreamDescriber {
     return value instanceof Iterator<?>;
   }
 
+  @Override
+  public boolean isValueDependent() {
+    return false;
+  }
+
   @Nonnull
   @Override
   protected Stream<?> valueAsStream(@Nonnull Object value) {
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.library;
+
+import com.github.mmichaelis.describeme.core.AbstractStreamDescriber;
+import com.github.mmichaelis.describeme.core.Describes;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Describes maps like {@code {key=value, ...}}.
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+@Describes(value = Map.class, order = 600)
+public class MapDescriber extends AbstractStreamDescriber {
+
+  @Override
+  public boolean test(@Nullable Object value) {
+    return value instanceof Map<?, ?>;
+  }
+
+  @Override
+  public boolean isValueDependent() {
+    return false;
+  }
+
+  @Nonnull
+  @Override
+  protected Stream<?> valueAsStream(@Nonnull Object value) {
+    return ((Map<?, ?>) value).entrySet().stream();
+  }
+
+  @Nonnull
+  @Override
+  protected Spliterator<?> valueAsSpliterator(@Nonnull Object value) {
+    return ((Map<?, ?>) value).entrySet().spliterator();
+  }
+
+  @Override
+  protected int knownSize(@Nonnull Object value) {
+    return ((Map<?, ?>) value).size();
+  }
+
+  @Nonnull
+  @Override
+  protected Iterator<?> valueAsIterator(@Nonnull Object value) {
+    return ((Map<?, ?>) value).entrySet().iterator();
+  }
+
+  @Override
+  protected char openingBracket() {
+    return '{';
+  }
+
+  @Override
+  protected char closingBracket() {
+    return '}';
+  }
+
+  @Override
+  protected int partsPerElement() {
+    return 2;
+  }
+
+  @Nullable
+  @Override
+  protected Object elementPart(@Nullable Object element, int part) {
+    assert element != null : "Map entries must not be null.";
+    Map.Entry<?, ?> entry = (Map.Entry<?, ?>) element;
+    return (part == 0) ? entry.getKey() : entry.getValue();
+  }
+
+  @Nonnull
+  @Override
+  protected String partSeparator() {
+    return "=";
+  }
+}
@@ -17,32 +17,38 @@
 package com.github.mmichaelis.describeme.library;
 
 import com.github.mmichaelis.describeme.core.AbstractDescriber;
-import com.github.mmichaelis.describeme.core.AppendableUtil;
+import com.github.mmichaelis.describeme.core.Describes;
+import com.github.mmichaelis.describeme.core.DescriptionSink;
 
-import java.text.NumberFormat;
-import java.util.Locale;
 import java.util.function.BiConsumer;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 /**
+ * Describes numbers with grouped integer digits and at most three fraction digits, like
+ * {@link java.text.NumberFormat} for {@link java.util.Locale#ROOT}.
+ *
  * @since $$SINCE:2015-03-16$$
  */
+@Describes(value = Number.class, order = 900)
 public class NumberDescriber extends AbstractDescriber {
 
-  private static final NumberFormat FORMAT = NumberFormat.getNumberInstance(Locale.ROOT);
-
   @Override
   public boolean test(@Nullable Object value) {
     return value instanceof Number;
   }
 
+  @Override
+  public boolean isValueDependent() {
+    return false;
+  }
+
   @Override
   protected void internalDescribeTo(@Nonnull Appendable appendable, @Nullable Object value,
                                     int maxCount,
                                     @Nonnull BiConsumer<Object, Object> recursiveConsumer) {
-    AppendableUtil.silentAppend(appendable, FORMAT.format(value));
+    NumberRenderer.appendNumber(DescriptionSink.sinkFor(appendable), (Number) value);
   }
 
 }
@@ -0,0 +1,353 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.mmichaelis.describeme.library;
+
+import com.github.mmichaelis.describeme.core.DescriptionSink;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Renders numbers like {@link NumberFormat#getNumberInstance(Locale)} for {@link Locale#ROOT},
+ * but statelessly and directly to a sink.
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+final class NumberRenderer {
+
+  private static final int RADIX = 10;
+  private static final int GROUPING_SIZE = 3;
+  private static final int MAX_FRACTION_DIGITS = 3;
+  private static final int LONG_BITS = 64;
+  private static final DecimalFormatSymbols SYMBOLS = DecimalFormatSymbols.getInstance(Locale.ROOT);
+  private static final char GROUPING_SEPARATOR = SYMBOLS.getGroupingSeparator();
+  private static final char DECIMAL_SEPARATOR = SYMBOLS.getDecimalSeparator();
+  private static final char MINUS_SIGN = SYMBOLS.getMinusSign();
+  private static final String NAN = SYMBOLS.getNaN();
+  private static final String INFINITY = SYMBOLS.getInfinity();
+
+  private NumberRenderer() {
+  }
+
+  /**
+   * Append the given number choosing the representation the same way as
+   * {@link java.text.DecimalFormat#format(Object, StringBuffer, java.text.FieldPosition)} does.
+   */
+  static void appendNumber(@Nonnull DescriptionSink sink, @Nonnull Number value) {
+    if ((value instanceof Long) || (value instanceof Integer)
+        || (value instanceof Short) || (value instanceof Byte)
+        || (value instanceof AtomicInteger) || (value instanceof AtomicLong)) {
+      appendLong(sink, value.longValue());
+    } else if (value instanceof BigInteger) {
+      appendBigInteger(sink, (BigInteger) value);
+    } else if (value instanceof BigDecimal) {
+      appendBigDecimal(sink, (BigDecimal) value);
+    } else {
+      appendDouble(sink, value.doubleValue());
+    }
+  }
+
+  /**
+   * Append the given value with grouped digits.
+   */
+  static void appendLong(@Nonnull DescriptionSink sink, long value) {
+    // Calculate on negative values, as -Long.MIN_VALUE does not exist.
+    long negative = (value < 0L) ? value : -value;
+    if (value < 0L) {
+      sink.append(MINUS_SIGN);
+    }
+    long divisor = 1L;
+    int digits = 1;
+    while ((negative / divisor) <= -RADIX) {
+      divisor *= RADIX;
+      digits++;
+    }
+    for (; digits > 0; digits--) {
+      sink.append((char) ('0' - ((negative / divisor) % RADIX)));
+      if (((digits % GROUPING_SIZE) == 1) && (digits > 1)) {
+        sink.append(GROUPING_SEPARATOR);
+      }
+      divisor /= RADIX;
+    }
+  }
+
+  static void appendDouble(@Nonnull DescriptionSink sink, double value) {
+    if (Double.isNaN(value)) {
+      sink.append(NAN);
+      return;
+    }
+    // -0.0 keeps its sign just as in NumberFormat.
+    boolean negative = (value < 0.0) || ((value == 0.0) && ((1.0 / value) < 0.0));
+    if (negative) {
+      sink.append(MINUS_SIGN);
+    }
+    if (Double.isInfinite(value)) {
+      sink.append(INFINITY);
+      return;
+    }
+    double magnitude = Math.abs(value);
+    DecimalDigits digits = new DecimalDigits(Double.toString(magnitude), magnitude);
+    digits.appendTo(sink);
+  }
+
+  static void appendBigDecimal(@Nonnull DescriptionSink sink, @Nonnull BigDecimal value) {
+    if (value.signum() < 0) {
+      sink.append(MINUS_SIGN);
+    }
+    DecimalDigits digits = new DecimalDigits(value.abs().toString());
+    digits.appendTo(sink);
+  }
+
+  static void appendBigInteger(@Nonnull DescriptionSink sink, @Nonnull BigInteger value) {
+    if (value.bitLength() < LONG_BITS) {
+      appendLong(sink, value.longValue());
+      return;
+    }
+    if (value.signum() < 0) {
+      sink.append(MINUS_SIGN);
+    }
+    String digits = value.abs().toString();
+    int length = digits.length();
+    for (int i = 0; i < length; i++) {
+      sink.append(digits.charAt(i));
+      appendGroupingSeparator(sink, length - i - 1);
+    }
+  }
+
+  private static void appendGroupingSeparator(@Nonnull DescriptionSink sink,
+                                              int remainingIntegerDigits) {
+    if ((remainingIntegerDigits > 0) && ((remainingIntegerDigits % GROUPING_SIZE) == 0)) {
+      sink.append(GROUPING_SEPARATOR);
+    }
+  }
+
+  /**
+   * Significant digits of a non-negative decimal number rounded to at most
+   * {@value #MAX_FRACTION_DIGITS} fraction digits, modelled after {@code java.text.DigitList}.
+   */
+  private static final class DecimalDigits {
+
+    @Nonnull
+    private final char[] digits;
+    /**
+     * {@code 0} represents zero.
+     */
+    private int count;
+    /**
+     * Position of the decimal point relative to the first significant digit.
+     */
+    private int decimalAt;
+    /**
+     * Whether the digits are the exact decimal value, as it is for {@link BigDecimal}.
+     */
+    private final boolean exact;
+    /**
+     * The binary value the digits approximate if they are not exact.
+     */
+    private final double binaryValue;
+
+    private DecimalDigits(@Nonnull String source) {
+      this(source, true, Double.NaN);
+    }
+
+    private DecimalDigits(@Nonnull String source, double binaryValue) {
+      this(source, false, binaryValue);
+    }
+
+    private DecimalDigits(@Nonnull String source, boolean exact, double binaryValue) {
+      this.exact = exact;
+      this.binaryValue = binaryValue;
+      digits = new char[source.length()];
+      parse(source);
+      roundFraction();
+    }
+
+    /**
+     * Collect digits of the form {@code DDDDD}, {@code DDDDD.DDDDD} or {@code DDDDDE+/-DDDDD}.
+     */
+    private void parse(@Nonnull String source) {
+      int length = source.length();
+      int exponent = 0;
+      int leadingZerosAfterDecimal = 0;
+      boolean nonZeroDigitSeen = false;
+      decimalAt = -1;
+      for (int i = 0; i < length; ) {
+        char c = source.charAt(i++);
+        if (c == '.') {
+          decimalAt = count;
+        } else if ((c == 'e') || (c == 'E')) {
+          exponent = parseExponent(source, i);
+          break;
+        } else {
+          if (!nonZeroDigitSeen) {
+            nonZeroDigitSeen = c != '0';
+            if (!nonZeroDigitSeen && (decimalAt != -1)) {
+              ++leadingZerosAfterDecimal;
+            }
+          }
+          if (nonZeroDigitSeen) {
+            digits[count++] = c;
+          }
+        }
+      }
+      if (decimalAt == -1) {
+        decimalAt = count;
+      }
+      if (nonZeroDigitSeen) {
+        decimalAt += exponent - leadingZerosAfterDecimal;
+      }
+    }
+
+    private static int parseExponent(@Nonnull String source, int start) {
+      int offset = start;
+      boolean positive = true;
+      char sign = source.charAt(offset);
+      if (sign == '-') {
+        positive = false;
+        offset++;
+      } else if (sign == '+') {
+        offset++;
+      }
+      int value = 0;
+      for (; offset < source.length(); offset++) {
+        value = (value * RADIX) + (source.charAt(offset) - '0');
+      }
+      return positive ? value : -value;
+    }
+
+    private void roundFraction() {
+      if (-decimalAt > MAX_FRACTION_DIGITS) {
+        // Underflow to zero.
+        count = 0;
+        return;
+      }
+      if (-decimalAt == MAX_FRACTION_DIGITS) {
+        // Rounding might create a new digit in the least significant location.
+        if (shouldRoundUp(0)) {
+          count = 1;
+          ++decimalAt;
+          digits[0] = '1';
+        } else {
+          count = 0;
+        }
+        return;
+      }
+      trimTrailingZeros();
+      round(MAX_FRACTION_DIGITS + decimalAt);
+    }
+
+    private void round(int maximumDigits) {
+      if ((maximumDigits < 0) || (maximumDigits >= count)) {
+        return;
+      }
+      int kept = maximumDigits;
+      if (shouldRoundUp(maximumDigits)) {
+        while (true) {
+          --kept;
+          if (kept < 0) {
+            // All digits were nines.
+            digits[0] = '1';
+            ++decimalAt;
+            kept = 0;
+            break;
+          }
+          ++digits[kept];
+          if (digits[kept] <= '9') {
+            break;
+          }
+        }
+        ++kept;
+      }
+      count = kept;
+      trimTrailingZeros();
+    }
+
+    private void trimTrailingZeros() {
+      while ((count > 1) && (digits[count - 1] == '0')) {
+        --count;
+      }
+    }
+
+    /**
+     * Half-even rounding of the digits from {@code maximumDigits} on. If the digit at that
+     * position is the last one and a {@code 5}, the binary value decides whether it is a tie.
+     */
+    private boolean shouldRoundUp(int maximumDigits) {
+      if (maximumDigits >= count) {
+        return false;
+      }
+      char digit = digits[maximumDigits];
+      if (digit > '5') {
+        return true;
+      }
+      if (digit < '5') {
+        return false;
+      }
+      if (maximumDigits < (count - 1)) {
+        for (int i = maximumDigits + 1; i < count; ++i) {
+          if (digits[i] != '0') {
+            return true;
+          }
+        }
+        return false;
+      }
+      int comparison = exact ? 0 : compareBinaryValueToDigits();
+      if (comparison != 0) {
+        // The digits are rounded up (value below tie) or truncated (value above tie).
+        return comparison > 0;
+      }
+      return (maximumDigits > 0) && ((digits[maximumDigits - 1] % 2) != 0);
+    }
+
+    private int compareBinaryValueToDigits() {
+      BigDecimal decimal = new BigDecimal(new BigInteger(new String(digits, 0, count)))
+          .scaleByPowerOfTen(decimalAt - count);
+      return new BigDecimal(binaryValue).compareTo(decimal);
+    }
+
+    private void appendTo(@Nonnull DescriptionSink sink) {
+      if (count == 0) {
+        decimalAt = 0;
+      }
+      int digitIndex = 0;
+      for (int i = Math.max(decimalAt, 1) - 1; i >= 0; --i) {
+        if ((i < decimalAt) && (digitIndex < count)) {
+          sink.append(digits[digitIndex++]);
+        } else {
+          sink.append('0');
+        }
+        appendGroupingSeparator(sink, i);
+      }
+      if (digitIndex < count) {
+        sink.append(DECIMAL_SEPARATOR);
+        for (int i = 0; (i < MAX_FRACTION_DIGITS) && (digitIndex < count); ++i) {
+          if ((-1 - i) > (decimalAt - 1)) {
+            sink.append('0');
+          } else {
+            sink.append(digits[digitIndex++]);
+          }
+        }
+      }
+    }
+  }
+}
@@ -17,6 +17,7 @@
 package com.github.mmichaelis.describeme.library;
 
 import com.github.mmichaelis.describeme.core.AbstractStreamDescriber;
+import com.github.mmichaelis.describeme.core.Describes;
 
 import java.util.stream.Stream;
 
@@ -26,6 +27,7 @@ import javax.annotation.Nullable;
 /**
  * @since $$SINCE:2015-03-16$$
  */
+@Describes(value = Stream.class, order = 500)
 public class StreamDescriber extends AbstractStreamDescriber {
 
   @Override
@@ -33,6 +35,11 @@ public class StreamDescriber extends AbstractStreamDescriber {
     return value instanceof Stream<?>;
   }
 
+  @Override
+  public boolean isValueDependent() {
+    return false;
+  }
+
   @Nonnull
   @Override
   protected Stream<?> valueAsStream(@Nonnull Object value) {
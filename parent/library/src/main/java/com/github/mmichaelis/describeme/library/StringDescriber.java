@@ -17,8 +17,10 @@
 package com.github.mmichaelis.describeme.library;
 
 import com.github.mmichaelis.describeme.core.AbstractDescriber;
-import com.github.mmichaelis.describeme.core.AppendableUtil;
+import com.github.mmichaelis.describeme.core.DescriberMetrics;
 import com.github.mmichaelis.describeme.core.DescriberProperties;
+import com.github.mmichaelis.describeme.core.Describes;
+import com.github.mmichaelis.describeme.core.DescriptionSink;
 
 import java.util.function.BiConsumer;
 
@@ -28,15 +30,25 @@ import javax.annotation.Nullable;
 import static com.github.mmichaelis.describeme.core.DescriberProperties.ELLIPSIS;
 
 /**
+ * Describes character sequences as quoted string literals, escaped like in Java source code.
+ *
  * @since $$SINCE:2015-03-16$$
  */
+@Describes(value = CharSequence.class, order = 1000)
 public class StringDescriber extends AbstractDescriber {
 
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
   @Override
   public boolean test(@Nullable Object value) {
     return value instanceof CharSequence;
   }
 
+  @Override
+  public boolean isValueDependent() {
+    return false;
+  }
+
   @Override
   protected void internalDescribeTo(@Nonnull Appendable appendable, @Nullable Object value,
                                     int maxCount,
@@ -44,11 +56,84 @@ public class StringDescriber extends AbstractDescriber {
     assert value != null : "value must not be null. Did you call test() before?";
     CharSequence charSequence = (CharSequence) value;
     int stringLength = charSequence.length();
+    DescriptionSink sink = DescriptionSink.sinkFor(appendable);
+    sink.append('"');
     if ((maxCount <= DescriberProperties.UNLIMITED) || (stringLength < maxCount)) {
-      AppendableUtil.silentAppend(appendable, '"', charSequence, '"');
+      appendEscaped(sink, charSequence, stringLength);
     } else {
-      AppendableUtil
-          .silentAppend(appendable, '"', charSequence.subSequence(0, maxCount), ELLIPSIS, '"');
+      appendEscaped(sink, charSequence, truncatedLength(charSequence, maxCount));
+      sink.append(ELLIPSIS);
+      DescriberMetrics.truncated(this);
+    }
+    sink.append('"');
+  }
+
+  /**
+   * Number of characters to keep, excluding a high surrogate whose low surrogate would be cut
+   * off.
+   */
+  private static int truncatedLength(@Nonnull CharSequence charSequence, int maxCount) {
+    if ((maxCount > 0) && (maxCount < charSequence.length())
+        && Character.isHighSurrogate(charSequence.charAt(maxCount - 1))
+        && Character.isLowSurrogate(charSequence.charAt(maxCount))) {
+      return maxCount - 1;
+    }
+    return maxCount;
+  }
+
+  /**
+   * Append the first characters of the given sequence in one pass, appending runs of
+   * characters not requiring escapes as a whole.
+   */
+  private static void appendEscaped(@Nonnull DescriptionSink sink,
+                                    @Nonnull CharSequence charSequence, int end) {
+    int runStart = 0;
+    for (int i = 0; i < end; i++) {
+      char c = charSequence.charAt(i);
+      if (requiresEscape(c)) {
+        if (runStart < i) {
+          sink.append(charSequence, runStart, i);
+        }
+        appendEscape(sink, c);
+        runStart = i + 1;
+      }
+    }
+    if (runStart < end) {
+      sink.append(charSequence, runStart, end);
+    }
+  }
+
+  private static boolean requiresEscape(char c) {
+    return (c < ' ') || (c == '"') || (c == '\\') || (c == 0x7F);
+  }
+
+  private static void appendEscape(@Nonnull DescriptionSink sink, char c) {
+    switch (c) {
+      case '"':
+        sink.append("\\\"");
+        break;
+      case '\\':
+        sink.append("\\\\");
+        break;
+      case '\n':
+        sink.append("\\n");
+        break;
+      case '\r':
+        sink.append("\\r");
+        break;
+      case '\t':
+        sink.append("\\t");
+        break;
+      case '\b':
+        sink.append("\\b");
+        break;
+      case '\f':
+        sink.append("\\f");
+        break;
+      default:
+        sink.append("\\u00")
+            .append(HEX_DIGITS[(c >> 4) & 0xF])
+            .append(HEX_DIGITS[c & 0xF]);
     }
   }
 
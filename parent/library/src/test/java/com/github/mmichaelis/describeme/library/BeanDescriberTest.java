@@ -0,0 +1,167 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.library;
+
+import com.github.mmichaelis.describeme.core.Describable;
+import com.github.mmichaelis.describeme.core.Describe;
+import com.github.mmichaelis.describeme.core.NotDescribed;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static com.github.mmichaelis.describeme.core.DescriberProperties.UNLIMITED;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Types opting in by {@link Describable} are described by their fields.
+ */
+public class BeanDescriberTest {
+
+  @Test
+  public void describeFields() throws Exception {
+    Person person = new Person("Alice", 42);
+    assertThat(Describe.describe(person, 3, UNLIMITED),
+               is("Person{name=\"Alice\", age=42, friends=[]}"));
+  }
+
+  @Test
+  public void describeFieldsOfSuperclassesFirst() throws Exception {
+    Employee employee = new Employee("Bob", 23, "ACME");
+    assertThat(Describe.describe(employee, 3, UNLIMITED),
+               is("Employee{name=\"Bob\", age=23, friends=[], company=\"ACME\"}"));
+  }
+
+  @Test
+  public void respectMaxDepthAndCount() throws Exception {
+    Person alice = new Person("Alice", 42);
+    alice.friends.add(new Person("Bob", 23));
+    assertThat("depth", Describe.describe(alice, 1, UNLIMITED),
+               is("Person{name=\"Alice\", age=42, friends=[...]}"));
+    assertThat("count", Describe.describe(alice, 3, 2),
+               is("Person{name=\"Al...\", age=42, ...}"));
+  }
+
+  @Test
+  public void stopAtCycles() throws Exception {
+    Person alice = new Person("Alice", 42);
+    Person bob = new Person("Bob", 23);
+    alice.friends.add(bob);
+    bob.friends.add(alice);
+    assertThat(Describe.describe(Arrays.asList(alice), UNLIMITED, UNLIMITED),
+               is("[Person{name=\"Alice\", age=42, friends=[Person{name=\"Bob\", age=23, "
+                  + "friends=[...]}]}]"));
+  }
+
+  @Test
+  public void otherTypesAreNotDescribedByFields() throws Exception {
+    Object plain = new Object() {
+      @Override
+      public String toString() {
+        return "plain";
+      }
+    };
+    assertThat(Describe.describe(plain, 3, UNLIMITED), is("plain"));
+  }
+
+  @Test
+  public void deferToGeneratedDescribers() throws Exception {
+    Generated value = new Generated();
+    assertThat("deferred", new BeanDescriber().test(value), is(false));
+    assertThat("described", Describe.describe(value, 3, UNLIMITED),
+               is("Generated{name=\"generated\"}"));
+  }
+
+  @Test
+  public void precedeDescribersOfSupertypes() throws Exception {
+    assertThat("reflective", Describe.describe(new ReflectiveBag(), 3, UNLIMITED),
+               is("ReflectiveBag{name=\"bag\"}"));
+    GeneratedBag generated = new GeneratedBag();
+    assertThat("deferred", new BeanDescriber().test(generated), is(false));
+    assertThat("generated", Describe.describe(generated, 3, UNLIMITED),
+               is("GeneratedBag{name=\"bag\"}"));
+  }
+
+  @Describable
+  private static class Person {
+
+    private static final String IGNORED_STATIC = "static";
+    private final String name;
+    private final int age;
+    private final List<Person> friends = new ArrayList<>();
+    private transient String ignoredTransient = "transient";
+    @NotDescribed
+    private final String password = "secret";
+
+    private Person(String name, int age) {
+      this.name = name;
+      this.age = age;
+    }
+  }
+
+  private static final class Employee extends Person {
+
+    private final String company;
+
+    private Employee(String name, int age, String company) {
+      super(name, age);
+      this.company = company;
+    }
+  }
+
+  /**
+   * Not accessible from its package, thus described reflectively.
+   */
+  @Describable
+  private static final class ReflectiveBag implements Iterable<String> {
+
+    private final String name = "bag";
+
+    @Override
+    public Iterator<String> iterator() {
+      return Collections.singleton(name).iterator();
+    }
+  }
+
+  /**
+   * Accessible from its package, thus described by the describer the processor generates.
+   */
+  @Describable
+  static final class GeneratedBag implements Iterable<String> {
+
+    final String name = "bag";
+
+    @Override
+    public Iterator<String> iterator() {
+      return Collections.singleton(name).iterator();
+    }
+  }
+
+  /**
+   * Accessible from its package, thus described by the describer the processor generates.
+   */
+  @Describable
+  static final class Generated {
+
+    final String name = "generated";
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.library;
+
+import com.github.mmichaelis.describeme.library.ByteArrayDescriber.Format;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import javax.annotation.Nonnull;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+@RunWith(Parameterized.class)
+public class ByteArrayDescriberTest {
+
+  private static final byte[] SOME_BYTES = {0x01, 0x7f, (byte) 0xff, 0x0a};
+  private final Format format;
+  private final int maxCount;
+  private final int maxDepth;
+  private final int maxLength;
+  private final String expectedDescription;
+
+  public ByteArrayDescriberTest(@Nonnull Format format, int maxCount, int maxDepth,
+                                int maxLength, @Nonnull String expectedDescription) {
+    this.format = format;
+    this.maxCount = maxCount;
+    this.maxDepth = maxDepth;
+    this.maxLength = maxLength;
+    this.expectedDescription = expectedDescription;
+  }
+
+  @Nonnull
+  @Parameters(
+      name = "Test {index}: {0}, maxCount {1}, maxDepth {2}, maxLength {3}, expecting: {4}")
+  public static Collection<Object[]> data() {
+    return Arrays.asList(
+        new Object[][]{
+            {Format.DECIMAL, -1, -1, -1, "[1, 127, -1, 10]"},
+            {Format.DECIMAL, 2, -1, -1, "[1, 127, ...]"},
+            {Format.HEX, -1, -1, -1, "[0x01, 0x7f, 0xff, 0x0a]"},
+            {Format.HEX, 2, -1, -1, "[0x01, 0x7f, ...]"},
+            {Format.COMPACT, -1, -1, -1, "0x017fff0a"},
+            {Format.COMPACT, 2, -1, -1, "0x017f..."},
+            {Format.COMPACT, 0, -1, -1, "0x..."},
+            {Format.COMPACT, -1, 0, -1, "0x..."},
+            {Format.COMPACT, -1, -1, 6, "0x017f..."},
+            {Format.HEX, -1, -1, 12, "[0x01, 0x7f,..."},
+        }
+    );
+  }
+
+  @Test
+  public void test() throws Exception {
+    StringBuilder sb = new StringBuilder();
+    new ByteArrayDescriber(format).describeTo(sb, SOME_BYTES, maxDepth, maxCount, maxLength);
+    assertThat("expecting description", sb.toString(), is(expectedDescription));
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.library;
+
+import com.github.mmichaelis.describeme.core.Describable;
+import com.github.mmichaelis.describeme.core.Describe;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.mmichaelis.describeme.core.DescriberProperties.UNLIMITED;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Nested values are described without recursion, so that the depth of values to describe is
+ * not bounded by the stack size.
+ */
+public class DeepDescribeTest {
+
+  private static final int DEPTH = 100000;
+
+  @Test
+  public void describeDeeplyNestedLists() throws Exception {
+    Object value = Collections.emptyList();
+    for (int i = 0; i < DEPTH; i++) {
+      value = Collections.singletonList(value);
+    }
+    assertThat(Describe.describe(value, UNLIMITED, UNLIMITED),
+               is(repeat("[", DEPTH + 1) + repeat("]", DEPTH + 1)));
+  }
+
+  @Test
+  public void describeDeeplyNestedMaps() throws Exception {
+    Object value = "end";
+    for (int i = 0; i < DEPTH; i++) {
+      value = Collections.singletonMap(i % 10, value);
+    }
+    String description = Describe.describe(value, UNLIMITED, UNLIMITED);
+    assertThat("start", description.substring(0, 10), is("{9={8={7={"));
+    assertThat("end", description.endsWith("{0=\"end\"}" + repeat("}", DEPTH - 1)), is(true));
+  }
+
+  @Test
+  public void siblingsFollowDeeplyNestedValues() throws Exception {
+    List<Object> deep = new ArrayList<>();
+    List<Object> current = deep;
+    for (int i = 0; i < DEPTH; i++) {
+      List<Object> nested = new ArrayList<>();
+      current.add(nested);
+      current = nested;
+    }
+    current.add(deep);
+    List<Object> value = new ArrayList<>();
+    value.add(deep);
+    value.add("sibling");
+    assertThat(Describe.describe(value, UNLIMITED, UNLIMITED),
+               is("[" + repeat("[", DEPTH + 1) + "..." + repeat("]", DEPTH + 1)
+                  + ", \"sibling\"]"));
+  }
+
+  @Test
+  public void describeDeeplyNestedValuesWithLimits() throws Exception {
+    Object value = Collections.singletonList("end");
+    for (int i = 0; i < DEPTH; i++) {
+      value = Collections.singletonList(value);
+    }
+    assertThat("depth", Describe.describe(value, 3, UNLIMITED), is("[[[[...]]]]"));
+    assertThat("length", Describe.describe(value, UNLIMITED, UNLIMITED, 10), is("[[[[[[[[[[..."));
+  }
+
+  @Test
+  public void hugeMaxDepthIsJustALimit() throws Exception {
+    assertThat(Describe.describe(Arrays.asList(1, 2), Integer.MAX_VALUE, 12), is("[1, 2]"));
+  }
+
+  @Test
+  public void describeDeeplyNestedMapEntries() throws Exception {
+    Map<Object, Object> value = Collections.singletonMap("key", "value");
+    for (int i = 0; i < 3; i++) {
+      value = Collections.singletonMap(value, value);
+    }
+    assertThat(Describe.describe(value, 1, UNLIMITED),
+               is("{{...=...}={...=...}}"));
+  }
+
+  @Test
+  public void describeDeeplyNestedFields() throws Exception {
+    ReflectiveLink reflective = null;
+    GeneratedLink generated = null;
+    for (int i = 0; i < DEPTH; i++) {
+      reflective = new ReflectiveLink(reflective);
+      generated = new GeneratedLink(generated);
+    }
+    assertThat("reflective", Describe.describe(reflective, UNLIMITED, UNLIMITED),
+               is(repeat("ReflectiveLink{next=", DEPTH) + "null" + repeat("}", DEPTH)));
+    assertThat("generated", Describe.describe(generated, UNLIMITED, UNLIMITED),
+               is(repeat("GeneratedLink{next=", DEPTH) + "null" + repeat("}", DEPTH)));
+  }
+
+  private static String repeat(String text, int count) {
+    StringBuilder builder = new StringBuilder(text.length() * count);
+    for (int i = 0; i < count; i++) {
+      builder.append(text);
+    }
+    return builder.toString();
+  }
+
+  /**
+   * Not accessible from its package, thus described reflectively.
+   */
+  @Describable
+  private static final class ReflectiveLink {
+
+    private final ReflectiveLink next;
+
+    private ReflectiveLink(ReflectiveLink next) {
+      this.next = next;
+    }
+  }
+
+  /**
+   * Accessible from its package, thus described by the describer the processor generates.
+   */
+  @Describable
+  static final class GeneratedLink {
+
+    final GeneratedLink next;
+
+    GeneratedLink(GeneratedLink next) {
+      this.next = next;
+    }
+  }
+}
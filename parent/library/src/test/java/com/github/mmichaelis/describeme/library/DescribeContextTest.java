@@ -0,0 +1,92 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.library;
+
+import com.github.mmichaelis.describeme.core.Describe;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.List;
+
+import static com.github.mmichaelis.describeme.core.DescriberProperties.UNLIMITED;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Descriptions share a context pooled per thread, which must not leak state from one
+ * description into the next one.
+ */
+public class DescribeContextTest {
+
+  private static final int LONG_SIZE = 10000;
+
+  @Test
+  public void subsequentDescriptionsAreIndependent() throws Exception {
+    List<Object> value = Arrays.asList("Lorem", Arrays.asList(1, 2, 3));
+    assertThat("limited", Describe.describe(value, 3, 12, 5), is("[\"Lor..."));
+    assertThat("unlimited", Describe.describe(value, 3, 12), is("[\"Lorem\", [1, 2, 3]]"));
+    assertThat("depth", Describe.describe(value, 1, 12), is("[\"Lorem\", [..., ..., ...]]"));
+    assertThat("count", Describe.describe(value, 3, 1), is("[\"L...\", ...]"));
+    assertThat("limited again", Describe.describe(value, 3, 12, 15),
+               is("[\"Lorem\", [1, 2..."));
+  }
+
+  @Test
+  public void describeWhileDescribing() throws Exception {
+    Formattable nested = (formatter, flags, width, precision) ->
+        formatter.format("%s", Describe.describe(Arrays.asList("in", "ner"), 3, 12));
+    assertThat("nested", Describe.describe(Arrays.asList(nested, "outer"), 3, 12),
+               is("[[\"in\", \"ner\"], \"outer\"]"));
+    assertThat("formatted", new Formatter().format("%s", nested).toString(),
+               is("[\"in\", \"ner\"]"));
+  }
+
+  @Test
+  public void describeAfterFailure() throws Exception {
+    Object failing = new Object() {
+      @Override
+      public String toString() {
+        throw new IllegalStateException("failing");
+      }
+    };
+    List<Object> inner = new ArrayList<>(Collections.singletonList(failing));
+    List<Object> value = Arrays.asList("a", inner);
+    try {
+      Describe.describe(value, 3, 12, 20);
+      fail("Description should have failed.");
+    } catch (IllegalStateException ignored) {
+      // expected
+    }
+    inner.clear();
+    // Values visited by the failed description must not be taken for recursion.
+    assertThat("after failure", Describe.describe(value, 3, 12), is("[\"a\", []]"));
+  }
+
+  @Test
+  public void describeShortAfterLong() throws Exception {
+    List<Integer> value = Collections.nCopies(LONG_SIZE, 1);
+    String description = Describe.describe(value, UNLIMITED, UNLIMITED);
+    assertThat("long", description.length(), is(3 * LONG_SIZE));
+    assertThat("short", Describe.describe(1, UNLIMITED, UNLIMITED), is("1"));
+  }
+}
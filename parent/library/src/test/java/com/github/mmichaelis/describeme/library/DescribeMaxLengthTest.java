@@ -0,0 +1,79 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.library;
+
+import com.github.mmichaelis.describeme.core.Describe;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.stream.Stream;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import static com.github.mmichaelis.describeme.core.DescriberProperties.UNLIMITED;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+@RunWith(Parameterized.class)
+public class DescribeMaxLengthTest {
+
+  private final Object toDescribe;
+  private final int maxLength;
+  private final String expectedDescription;
+
+  public DescribeMaxLengthTest(@Nullable Object toDescribe, int maxLength,
+                               @Nonnull String expectedDescription) {
+    this.toDescribe = toDescribe;
+    this.maxLength = maxLength;
+    this.expectedDescription = expectedDescription;
+  }
+
+  @Nonnull
+  @Parameters(name = "Test {index}: {0}, maxLength {1}, expecting: {2}")
+  public static Collection<Object[]> data() {
+    return Arrays.asList(
+        new Object[][]{
+            {"Lorem", UNLIMITED, "\"Lorem\""},
+            {"Lorem", 7, "\"Lorem\""},
+            {"Lorem", 4, "\"Lor..."},
+            {"Lorem", 0, "..."},
+            {1234567, 5, "1,234..."},
+            {Arrays.asList(1, 2, 3), 6, "[1, 2,..."},
+            {Arrays.asList(Arrays.asList("a", "b"), Collections.nCopies(50, "c")), 20,
+             "[[\"a\", \"b\"], [\"c\", \"..."},
+            {new int[]{1, 2, 3}, 5, "[1, 2..."},
+            {new int[]{1, 2, 3}, 9, "[1, 2, 3]"},
+            {new Object[]{"😀"}, 2, "[\"..."},
+            // Never ending streams end with the budget.
+            {Stream.iterate(0, i -> i + 1), 10, "[0, 1, 2, ..."},
+        }
+    );
+  }
+
+  @Test
+  public void test() throws Exception {
+    String description = Describe.describe(toDescribe, UNLIMITED, UNLIMITED, maxLength);
+    assertThat("expecting description", description, is(expectedDescription));
+  }
+}
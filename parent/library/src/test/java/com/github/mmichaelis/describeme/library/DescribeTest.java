@@ -30,6 +30,10 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Formattable;
 import java.util.Formatter;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
 import javax.annotation.Nonnull;
@@ -103,10 +107,51 @@ public class DescribeTest {
             {SOME_OBJECT_ARRAY.getClass(), String.valueOf(SOME_OBJECT_ARRAY.getClass())},
             {SomeEnum.class, String.valueOf(SomeEnum.class)},
             {SomeEnum.values(), "[A_ENUM, B_ENUM]"},
+            // Primitive arrays
+            {new int[]{}, "[]"},
+            {new int[]{1, 2_000, -3_000_000}, "[1, 2,000, -3,000,000]"},
+            {new long[]{Long.MIN_VALUE}, "[-9,223,372,036,854,775,808]"},
+            {new long[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13},
+             "[1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, ...]"},
+            {new short[]{(short) 0b0010_0101}, "[37]"},
+            {new byte[]{1, -1}, "[1, -1]"},
+            {new double[]{1.23456789123456789d, 1.234e2}, "[1.235, 123.4]"},
+            {new float[]{1.23456789123456789f}, "[1.235]"},
+            {new boolean[]{true, false}, "[true, false]"},
+            {new char[]{'a', 'b'}, "['a', 'b']"},
+            {new Object[]{1, new Object[]{2, new Object[]{3, new int[]{4}}}}, "[1, [2, [3, [...]]]]"},
+            {new int[][]{{1, 2}, {3}}, "[[1, 2], [3]]"},
+            // Cycle detection by identity rather than equality
+            {new AlwaysEqualIterable(1, new AlwaysEqualIterable(2)), "[1, [2]]"},
+            // Maps
+            {Collections.emptyMap(), "{}"},
+            {map(1, "a", "b", Arrays.asList(1, 2), null, 'c'),
+             "{1=\"a\", \"b\"=[1, 2], null='c'}"},
+            {map(1, map(2, map(3, map(4, 5)))), "{1={2={3={...=...}}}}"},
+            {selfContainingMap(), "{\"self\"=..., \"other\"=1}"},
+            {map(1, 1, 2, 2, 3, 3, 4, 4, 5, 5, 6, 6, 7, 7, 8, 8, 9, 9, 10, 10, 11, 11, 12, 12, 13, 13),
+             "{1=1, 2=2, 3=3, 4=4, 5=5, 6=6, 7=7, 8=8, 9=9, 10=10, 11=11, 12=12, ...}"},
         }
     );
   }
 
+  @Nonnull
+  private static Map<Object, Object> map(@Nonnull Object... keysAndValues) {
+    Map<Object, Object> map = new LinkedHashMap<>();
+    for (int i = 0; i < keysAndValues.length; i += 2) {
+      map.put(keysAndValues[i], keysAndValues[i + 1]);
+    }
+    return map;
+  }
+
+  @Nonnull
+  private static Map<Object, Object> selfContainingMap() {
+    Map<Object, Object> map = new LinkedHashMap<>();
+    map.put("self", map);
+    map.put("other", 1);
+    return map;
+  }
+
   @Test
   public void test() throws Exception {
     int maxDepth = 3;
@@ -136,6 +181,35 @@ public class DescribeTest {
     }
   }
 
+  private static final class AlwaysEqualIterable implements Iterable<Object> {
+
+    private final List<Object> elements;
+
+    private AlwaysEqualIterable(Object... elements) {
+      this.elements = Arrays.asList(elements);
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+      return elements.iterator();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof AlwaysEqualIterable;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public String toString() {
+      return String.valueOf(elements);
+    }
+  }
+
   private enum SomeEnum {
     A_ENUM,
     B_ENUM
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.library;
+
+import com.github.mmichaelis.describeme.core.Describe;
+import com.github.mmichaelis.describeme.core.DescriberIOException;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.github.mmichaelis.describeme.core.DescriberProperties.UNLIMITED;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class DescribeToBytesTest {
+
+  /**
+   * Long enough to span several chunks of encoded characters.
+   */
+  private static final int ELEMENTS = 50000;
+
+  @Test
+  public void describeToStream() throws Exception {
+    Object value = Arrays.asList(1, "Test", new Object[]{'c', Arrays.asList(2, 3)});
+    assertThat("stream", describeToStream(value, StandardCharsets.UTF_8, 5),
+               is(Describe.describe(value, 3, 12)));
+  }
+
+  @Test
+  public void describeToChannel() throws Exception {
+    Object value = Arrays.asList(1, "Test", new Object[]{'c', Arrays.asList(2, 3)});
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    Describe.describeTo(Channels.newChannel(out), StandardCharsets.UTF_8, value, 3, 12);
+    assertThat("channel", new String(out.toByteArray(), StandardCharsets.UTF_8),
+               is(Describe.describe(value, 3, 12)));
+  }
+
+  @Test
+  public void describeLongValueInChunks() throws Exception {
+    List<String> value = new ArrayList<>(ELEMENTS);
+    for (int i = 0; i < ELEMENTS; i++) {
+      // Surrogate pairs at varying offsets, so that some of them cross chunk boundaries.
+      value.add((i % 2 == 0) ? "\u00e4" : "a\uD83D\uDE00");
+    }
+    String expected = Describe.describe(value, UNLIMITED, UNLIMITED);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    Describe.describeTo(Channels.newChannel(out), StandardCharsets.UTF_8, value, UNLIMITED,
+                        UNLIMITED);
+    assertThat("channel", new String(out.toByteArray(), StandardCharsets.UTF_8), is(expected));
+    assertThat("stream", describeToStream(value, StandardCharsets.UTF_16BE, UNLIMITED),
+               is(expected));
+  }
+
+  @Test
+  public void replaceUnmappableCharacters() throws Exception {
+    assertThat("replaced", describeToStream("\u00e4", StandardCharsets.US_ASCII, 5),
+               is("\"?\""));
+  }
+
+  @Test
+  public void respectMaxLength() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    Describe.describeTo(out, StandardCharsets.UTF_8, "Lorem", UNLIMITED, UNLIMITED, 3);
+    assertThat("truncated", new String(out.toByteArray(), StandardCharsets.UTF_8),
+               is("\"Lo..."));
+  }
+
+  @Test
+  public void describeToStreamWhileDescribingToStream() throws Exception {
+    Object nested = new Object() {
+      @Override
+      public String toString() {
+        return describeToStream(Arrays.asList("in", "ner"), StandardCharsets.UTF_8, 5);
+      }
+    };
+    assertThat("reentrant", describeToStream(Arrays.asList(nested, "outer"),
+                                             StandardCharsets.UTF_8, 5),
+               is("[[\"in\", \"ner\"], \"outer\"]"));
+  }
+
+  @Test(expected = DescriberIOException.class)
+  public void failOnBrokenStream() throws Exception {
+    OutputStream broken = new OutputStream() {
+      @Override
+      public void write(int b) throws IOException {
+        throw new IOException("broken");
+      }
+    };
+    Describe.describeTo(broken, StandardCharsets.UTF_8, "Lorem", UNLIMITED, UNLIMITED);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectNonBlockingChannels() throws Exception {
+    Pipe pipe = Pipe.open();
+    try (Pipe.SinkChannel sink = pipe.sink(); Pipe.SourceChannel ignored = pipe.source()) {
+      sink.configureBlocking(false);
+      Describe.describeTo(sink, StandardCharsets.UTF_8, "Lorem", UNLIMITED, UNLIMITED);
+    }
+  }
+
+  private static String describeToStream(Object value, Charset charset, int maxDepth) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    Describe.describeTo(out, charset, value, maxDepth, UNLIMITED);
+    return new String(out.toByteArray(), charset);
+  }
+}
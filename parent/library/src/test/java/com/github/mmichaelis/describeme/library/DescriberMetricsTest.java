@@ -0,0 +1,144 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.library;
+
+import com.github.mmichaelis.describeme.core.Describe;
+import com.github.mmichaelis.describeme.core.Describer;
+import com.github.mmichaelis.describeme.core.DescriberCountersMXBean;
+import com.github.mmichaelis.describeme.core.DescriberListener;
+import com.github.mmichaelis.describeme.core.DescriberMetrics;
+import com.github.mmichaelis.describeme.core.DescriberMetricsMXBean;
+import com.github.mmichaelis.describeme.core.DescriberProperties;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.ObjectName;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Requires metrics to be enabled, which is done by the surefire configuration.
+ */
+public class DescriberMetricsTest {
+
+  private final RecordingListener listener = new RecordingListener();
+
+  @Before
+  public void setUp() throws Exception {
+    assertThat("metrics enabled", DescriberProperties.METRICS_ENABLED, is(true));
+    DescriberMetrics.totals().reset();
+    DescriberMetrics.addListener(listener);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    DescriberMetrics.removeListener(listener);
+  }
+
+  @Test
+  public void countInvocationsAndCharacters() throws Exception {
+    Object value = Arrays.asList(Arrays.asList("a", "b"), Arrays.asList("c"));
+    String description = Describe.describe(value, 3, 12);
+    DescriberCountersMXBean counters = DescriberMetrics.countersFor(IterableDescriber.class);
+    assertThat("invocations", counters.getInvocations(), is(3L));
+    assertThat("characters of outermost and nested lists", counters.getCharacters(),
+               is((long) (description.length() + "[\"a\", \"b\"]".length() + "[\"c\"]".length())));
+    assertThat("strings", DescriberMetrics.countersFor(StringDescriber.class).getInvocations(),
+               is(3L));
+    assertThat("notified", listener.described.get(), is(6));
+  }
+
+  @Test
+  public void countTruncations() throws Exception {
+    Describe.describe(Arrays.asList("Lorem", Arrays.asList(1, 2, 3), new int[]{1, 2, 3}), 3, 2);
+    assertThat("truncations", DescriberMetrics.countersFor(IterableDescriber.class)
+        .getTruncations(), is(2L));
+    assertThat("string", DescriberMetrics.countersFor(StringDescriber.class).getTruncations(),
+               is(1L));
+    assertThat("notified", listener.truncated.get(), is(3));
+  }
+
+  @Test
+  public void countCyclesDepthAndLength() throws Exception {
+    List<Object> recursive = new ArrayList<>();
+    recursive.add(recursive);
+    recursive.add(Arrays.asList(Arrays.asList(1)));
+    Describe.describe(recursive, 2, 12);
+    Describe.describe("Lorem ipsum", 2, 12, 5);
+    DescriberMetricsMXBean totals = DescriberMetrics.totals();
+    assertThat("cycles", totals.getCycles(), is(1L));
+    assertThat("max depth", totals.getMaxDepthHits(), is(1L));
+    assertThat("length", totals.getLengthExhaustions(), is(1L));
+    assertThat("notified", listener.other.get(), is(3));
+  }
+
+  @Test
+  public void exposeAsMXBeans() throws Exception {
+    Describe.describe(Arrays.asList(1, 2), 3, 12);
+    Object invocations = ManagementFactory.getPlatformMBeanServer().getAttribute(
+        new ObjectName("com.github.mmichaelis.describeme:type=Describer,name="
+                       + ObjectName.quote(IterableDescriber.class.getName())),
+        "Invocations");
+    assertThat("invocations", (Long) invocations, greaterThan(0L));
+    ManagementFactory.getPlatformMBeanServer().invoke(
+        new ObjectName("com.github.mmichaelis.describeme:type=Metrics"), "reset", null, null);
+    assertThat("reset", DescriberMetrics.countersFor(IterableDescriber.class).getInvocations(),
+               is(0L));
+  }
+
+  private static final class RecordingListener implements DescriberListener {
+
+    private final AtomicInteger described = new AtomicInteger();
+    private final AtomicInteger truncated = new AtomicInteger();
+    private final AtomicInteger other = new AtomicInteger();
+
+    @Override
+    public void described(Describer describer, long nanos, long characters) {
+      described.incrementAndGet();
+    }
+
+    @Override
+    public void truncated(Describer describer) {
+      truncated.incrementAndGet();
+    }
+
+    @Override
+    public void lengthExhausted() {
+      other.incrementAndGet();
+    }
+
+    @Override
+    public void cycleDetected() {
+      other.incrementAndGet();
+    }
+
+    @Override
+    public void maxDepthReached() {
+      other.incrementAndGet();
+    }
+  }
+}
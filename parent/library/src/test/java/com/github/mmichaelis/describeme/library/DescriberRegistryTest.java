@@ -0,0 +1,291 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.library;
+
+import com.github.mmichaelis.describeme.core.AbstractDescriber;
+import com.github.mmichaelis.describeme.core.DefaultDescriber;
+import com.github.mmichaelis.describeme.core.Describe;
+import com.github.mmichaelis.describeme.core.Describer;
+import com.github.mmichaelis.describeme.core.DescriberRegistry;
+import com.github.mmichaelis.describeme.core.Describes;
+import com.github.mmichaelis.describeme.core.DescriptionSink;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import static com.github.mmichaelis.describeme.core.DescriberProperties.UNLIMITED;
+import static com.github.mmichaelis.describeme.core.DescriberRegistry.describerRegistry;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class DescriberRegistryTest {
+
+  @Rule
+  public final TemporaryFolder folder = new TemporaryFolder();
+
+  private static final int THREADS = 8;
+  private static final int TASKS = 64;
+
+  @Test
+  public void describersAreOrderedAsDeclared() throws Exception {
+    List<Describer> describers = describerRegistry().describers();
+    List<Class<?>> types = new ArrayList<>();
+    describers.forEach(describer -> types.add(describer.getClass()));
+    int bean = types.indexOf(BeanDescriber.class);
+    assertThat("bean describer registered", bean >= 0, is(true));
+    assertThat("formattable after bean", types.indexOf(FormattableDescriber.class),
+               is(bean + 1));
+    assertThat("default describer is the fallback only", types.contains(DefaultDescriber.class),
+               is(false));
+  }
+
+  @Test
+  public void mostSpecificDescriberApplies() throws Exception {
+    assertThat("nearer interface", Describe.describe(new FormattableList(), 3, UNLIMITED),
+               is("formatted"));
+    assertThat("nearer interface precedes lower order",
+               Describe.describe(new IterableOfFormattable(), 3, UNLIMITED), is("[1]"));
+    assertThat("arrays of references", Describe.describe(new String[][]{{"a"}}, 3, UNLIMITED),
+               is("[[\"a\"]]"));
+  }
+
+  @Test
+  public void indexedDescribersAreInstantiatedOnFirstValueOfTheirTypes() throws Exception {
+    DescriberRegistry before = describerRegistry();
+    DescriberRegistry registry = DescriberRegistry.load(getClass().getClassLoader());
+    int instances = CountedDescriber.INSTANCES.get();
+    DescriberRegistry.publish(registry);
+    try {
+      assertThat("other type", Describe.describe("text", 3, UNLIMITED), is("\"text\""));
+      assertThat("not instantiated", CountedDescriber.INSTANCES.get(), is(instances));
+      assertThat("own type", Describe.describe(new Counted(), 3, UNLIMITED), is("counted"));
+      assertThat("instantiated", CountedDescriber.INSTANCES.get(), is(instances + 1));
+    } finally {
+      DescriberRegistry.publish(before);
+    }
+  }
+
+  @Test
+  public void providersOnlyPrecedeIndexedDescribers() throws Exception {
+    DescriberRegistry before = describerRegistry();
+    DescriberRegistry.publish(loadWithProviders(MyListDescriber.class));
+    try {
+      assertThat("provider only", Describe.describe(new MyList(), 3, UNLIMITED), is("my list"));
+      assertThat("other lists", Describe.describe(Arrays.asList(1), 3, UNLIMITED), is("[1]"));
+    } finally {
+      DescriberRegistry.publish(before);
+    }
+  }
+
+  @Test
+  public void valueDependentByDefault() throws Exception {
+    DescriberRegistry before = describerRegistry();
+    DescriberRegistry.publish(loadWithProviders(SecretDescriber.class));
+    try {
+      assertThat("secret", Describe.describe("secret", 3, UNLIMITED), is("***"));
+      assertThat("same class, other value", Describe.describe("plain", 3, UNLIMITED),
+                 is("\"plain\""));
+      assertThat("secret again", Describe.describe("secret 2", 3, UNLIMITED), is("***"));
+    } finally {
+      DescriberRegistry.publish(before);
+    }
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void describersAreImmutable() throws Exception {
+    describerRegistry().describers().clear();
+  }
+
+  @Test
+  public void reloadPublishesNewRegistry() throws Exception {
+    DescriberRegistry before = describerRegistry();
+    DescriberRegistry reloaded = DescriberRegistry.reload();
+    assertThat("reloaded registry published", describerRegistry(), sameInstance(reloaded));
+    assertThat("new snapshot", reloaded, not(sameInstance(before)));
+    assertThat("same describers", reloaded.describers().size(), is(before.describers().size()));
+  }
+
+  @Test
+  public void elementsOfOtherClassesAreDispatchedAgain() throws Exception {
+    List<Object> homogeneous = Arrays.asList("a", "b");
+    List<Object> heterogeneous = Arrays.asList("a", 1, null, new int[]{2}, Arrays.asList('c'));
+    // Same classes of containers, so that the element plans cached by the first description
+    // are reused by the following ones.
+    for (int i = 0; i < 2; i++) {
+      assertThat("homogeneous elements", Describe.describe(homogeneous, 3, 12),
+                 is("[\"a\", \"b\"]"));
+      assertThat("heterogeneous elements", Describe.describe(heterogeneous, 3, 12),
+                 is("[\"a\", 1, null, [2], ['c']]"));
+    }
+  }
+
+  @Test
+  public void describeConcurrently() throws Exception {
+    Object value = Arrays.asList(1, "Test", new Object[]{'c', Arrays.asList(2, 3)});
+    String expected = "[1, \"Test\", ['c', [2, 3]]]";
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      Collection<Callable<String>> tasks = new ArrayList<>();
+      for (int i = 0; i < TASKS; i++) {
+        tasks.add(() -> Describe.describe(value, 3, 12));
+      }
+      for (Future<String> future : executor.invokeAll(tasks)) {
+        assertThat("concurrent description", future.get(), is(expected));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Nonnull
+  private DescriberRegistry loadWithProviders(@Nonnull Class<?> describer) throws Exception {
+    File services = new File(folder.getRoot(), "META-INF/services/" + Describer.class.getName());
+    assertThat("services folder created", services.getParentFile().mkdirs(), is(true));
+    Files.write(services.toPath(), Collections.singletonList(describer.getName()),
+                StandardCharsets.UTF_8);
+    return DescriberRegistry.load(
+        new URLClassLoader(new URL[]{folder.getRoot().toURI().toURL()},
+                           getClass().getClassLoader()));
+  }
+
+  private static final class Counted {
+  }
+
+  private static class FormattableBase implements Formattable {
+
+    @Override
+    public void formatTo(Formatter formatter, int flags, int width, int precision) {
+      formatter.format("formatted");
+    }
+  }
+
+  private static final class FormattableList extends ArrayList<Object> implements Formattable {
+
+    private static final long serialVersionUID = 1L;
+
+    private FormattableList() {
+      add(1);
+    }
+
+    @Override
+    public void formatTo(Formatter formatter, int flags, int width, int precision) {
+      formatter.format("formatted");
+    }
+  }
+
+  /**
+   * Formattable via its superclass only, but iterable itself.
+   */
+  private static final class IterableOfFormattable extends FormattableBase
+      implements Iterable<Object> {
+
+    @Override
+    public Iterator<Object> iterator() {
+      return Collections.<Object>singletonList(1).iterator();
+    }
+  }
+
+  private static final class MyList extends ArrayList<Object> {
+
+    private static final long serialVersionUID = 1L;
+  }
+
+  /**
+   * Registered as provider only, thus not indexed.
+   */
+  public static final class MyListDescriber extends AbstractDescriber {
+
+    @Override
+    public boolean test(@Nullable Object value) {
+      return value instanceof MyList;
+    }
+
+    @Override
+    protected void internalDescribeTo(@Nonnull Appendable appendable, @Nullable Object value,
+                                      int maxCount,
+                                      @Nonnull BiConsumer<Object, Object> recursiveConsumer) {
+      DescriptionSink.sinkFor(appendable).append("my list");
+    }
+  }
+
+  /**
+   * Registered as provider only and value dependent by default.
+   */
+  public static final class SecretDescriber extends AbstractDescriber {
+
+    @Override
+    public boolean test(@Nullable Object value) {
+      return (value instanceof String) && ((String) value).startsWith("secret");
+    }
+
+    @Override
+    protected void internalDescribeTo(@Nonnull Appendable appendable, @Nullable Object value,
+                                      int maxCount,
+                                      @Nonnull BiConsumer<Object, Object> recursiveConsumer) {
+      DescriptionSink.sinkFor(appendable).append("***");
+    }
+  }
+
+  @Describes(Counted.class)
+  public static final class CountedDescriber extends AbstractDescriber {
+
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    public CountedDescriber() {
+      INSTANCES.incrementAndGet();
+    }
+
+    @Override
+    public boolean test(@Nullable Object value) {
+      return value instanceof Counted;
+    }
+
+    @Override
+    protected void internalDescribeTo(@Nonnull Appendable appendable, @Nullable Object value,
+                                      int maxCount,
+                                      @Nonnull BiConsumer<Object, Object> recursiveConsumer) {
+      DescriptionSink.sinkFor(appendable).append("counted");
+    }
+  }
+}
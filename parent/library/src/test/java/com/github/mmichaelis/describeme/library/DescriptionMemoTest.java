@@ -0,0 +1,197 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.library;
+
+import com.github.mmichaelis.describeme.core.AbstractDescriber;
+import com.github.mmichaelis.describeme.core.Describe;
+import com.github.mmichaelis.describeme.core.Describer;
+import com.github.mmichaelis.describeme.core.DescriberRegistry;
+import com.github.mmichaelis.describeme.core.DescriptionMemo;
+import com.github.mmichaelis.describeme.core.DescriptionSink;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Requires memoization to be enabled, which is done by the surefire configuration.
+ */
+public class DescriptionMemoTest {
+
+  @Rule
+  public final TemporaryFolder folder = new TemporaryFolder();
+
+  private DescriberRegistry original;
+
+  @Before
+  public void setUp() throws Exception {
+    assertThat("memoization enabled", DescriptionMemo.isEnabled(), is(true));
+    original = DescriberRegistry.describerRegistry();
+    // Register the stable describer in addition to the describers of the library.
+    File services = new File(folder.getRoot(), "META-INF/services/" + Describer.class.getName());
+    assertThat("services folder created", services.getParentFile().mkdirs(), is(true));
+    Files.write(services.toPath(), Collections.singletonList(ConfigDescriber.class.getName()),
+                StandardCharsets.UTF_8);
+    ClassLoader classLoader = new ChildFirstClassLoader(folder.getRoot().toURI().toURL(),
+                                                        getClass().getClassLoader());
+    DescriberRegistry.publish(DescriberRegistry.load(classLoader));
+    DescriptionMemo.invalidateAll();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    DescriberRegistry.publish(original);
+    DescriptionMemo.invalidateAll();
+  }
+
+  @Test
+  public void stableValuesAreDescribedOnce() throws Exception {
+    Config config = new Config("a");
+    long hits = DescriptionMemo.stats().hitCount();
+    String first = Describe.describe(config, 3, 12);
+    String second = Describe.describe(config, 3, 12);
+    assertThat("description", first, is("Config(a)"));
+    assertThat("same description", second, sameInstance(first));
+    assertThat("described", config.described.get(), is(1));
+    assertThat("hit", DescriptionMemo.stats().hitCount() - hits, is(1L));
+  }
+
+  @Test
+  public void memoizedPerLimits() throws Exception {
+    Config config = new Config("abc");
+    assertThat("unlimited", Describe.describe(config, 3, 12), is("Config(abc)"));
+    assertThat("limited", Describe.describe(config, 3, 12, 8), is("Config(a..."));
+    StringBuilder sb = new StringBuilder();
+    Describe.describeTo(sb, config, 3, 12);
+    assertThat("appended", sb.toString(), is("Config(abc)"));
+    assertThat("described", config.described.get(), is(2));
+  }
+
+  @Test
+  public void combinationsOfLimitsAreBounded() throws Exception {
+    Config config = new Config("abc");
+    int combinations = 100;
+    for (int i = 0; i < combinations; i++) {
+      Describe.describe(config, 3, 12, 100 + i);
+    }
+    Describe.describe(config, 3, 12, 100 + combinations - 1);
+    assertThat("latest combination memoized", config.described.get(), is(combinations));
+    Describe.describe(config, 3, 12, 100);
+    assertThat("first combination discarded", config.described.get(), is(combinations + 1));
+  }
+
+  @Test
+  public void nestedValuesAreNotMemoized() throws Exception {
+    Config config = new Config("a");
+    assertThat("nested", Describe.describe(Arrays.asList(config, config), 3, 12),
+               is("[Config(a), Config(a)]"));
+    assertThat("described", config.described.get(), is(2));
+  }
+
+  @Test
+  public void equalValuesAreDescribedEach() throws Exception {
+    Describe.describe(new Config("a"), 3, 12);
+    Config other = new Config("a");
+    Describe.describe(other, 3, 12);
+    assertThat("described", other.described.get(), is(1));
+  }
+
+  /**
+   * Provides its own resources first, so that its describers precede the others.
+   */
+  private static final class ChildFirstClassLoader extends URLClassLoader {
+
+    private ChildFirstClassLoader(URL url, ClassLoader parent) {
+      super(new URL[]{url}, parent);
+    }
+
+    @Override
+    public Enumeration<URL> getResources(String name) throws IOException {
+      List<URL> resources = Collections.list(findResources(name));
+      resources.addAll(Collections.list(getParent().getResources(name)));
+      return Collections.enumeration(resources);
+    }
+  }
+
+  private static final class Config {
+
+    private final String name;
+    private final AtomicInteger described = new AtomicInteger();
+
+    private Config(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return (o instanceof Config) && name.equals(((Config) o).name);
+    }
+
+    @Override
+    public int hashCode() {
+      return name.hashCode();
+    }
+  }
+
+  /**
+   * Registered via service file created by the test.
+   */
+  public static final class ConfigDescriber extends AbstractDescriber {
+
+    @Override
+    public boolean test(@Nullable Object value) {
+      return value instanceof Config;
+    }
+
+    @Override
+    public boolean isStable() {
+      return true;
+    }
+
+    @Override
+    protected void internalDescribeTo(@Nonnull Appendable appendable, @Nullable Object value,
+                                      int maxCount,
+                                      @Nonnull BiConsumer<Object, Object> recursiveConsumer) {
+      Config config = (Config) value;
+      assert config != null : "value must not be null. Did you call test() before?";
+      config.described.incrementAndGet();
+      DescriptionSink.sinkFor(appendable).append("Config(").append(config.name).append(')');
+    }
+  }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.library;
+
+import com.github.mmichaelis.describeme.core.Describe;
+import com.github.mmichaelis.describeme.core.DescriptionQueue;
+import com.github.mmichaelis.describeme.core.DescriptionQueue.Overflow;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.mmichaelis.describeme.core.DescriberProperties.UNLIMITED;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Values are described by background workers, applying the overflow policy once the queue is
+ * full.
+ */
+public class DescriptionQueueTest {
+
+  private static final long TIMEOUT_SECONDS = 10L;
+
+  @Test
+  public void describeInBackground() throws Exception {
+    List<Object> value = Arrays.asList("Lorem", new int[]{1, 2}, Collections.singletonMap(3, 4));
+    List<StringBuilder> descriptions = new ArrayList<>();
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    try (DescriptionQueue queue = new DescriptionQueue(64, 8, 2, Overflow.BLOCK)) {
+      for (int i = 0; i < 100; i++) {
+        StringBuilder description = new StringBuilder();
+        descriptions.add(description);
+        futures.add(queue.describeTo(description, value, 3, UNLIMITED, 20));
+      }
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()]))
+          .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+    String expected = Describe.describe(value, 3, UNLIMITED, 20);
+    for (StringBuilder description : descriptions) {
+      assertThat(description.toString(), is(expected));
+    }
+  }
+
+  @Test
+  public void dropWhenFull() throws Exception {
+    Blocker blocker = new Blocker();
+    try (DescriptionQueue queue = new DescriptionQueue(1, 1, 1, Overflow.DROP)) {
+      CompletableFuture<Void> blocked = fill(queue, blocker);
+      CompletableFuture<Void> dropped = queue.describeTo(new StringBuilder(), "dropped", 3,
+                                                         UNLIMITED, UNLIMITED);
+      assertThat("dropped", failureOf(dropped), instanceOf(RejectedExecutionException.class));
+      assertThat("dropped count", queue.dropped(), is(1L));
+      blocker.release.countDown();
+      blocked.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+  }
+
+  @Test
+  public void summarizeWhenFull() throws Exception {
+    Blocker blocker = new Blocker();
+    try (DescriptionQueue queue = new DescriptionQueue(1, 1, 1, Overflow.SUMMARY)) {
+      CompletableFuture<Void> blocked = fill(queue, blocker);
+      StringBuilder summary = new StringBuilder();
+      queue.describeTo(summary, new ArrayList<>(), 3, UNLIMITED, UNLIMITED)
+          .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+      assertThat("summary", summary.toString(), startsWith("java.util.ArrayList@"));
+      assertThat("summarized count", queue.summarized(), is(1L));
+      blocker.release.countDown();
+      blocked.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+  }
+
+  @Test
+  public void blockWhenFull() throws Exception {
+    Blocker blocker = new Blocker();
+    try (DescriptionQueue queue = new DescriptionQueue(1, 1, 1, Overflow.BLOCK)) {
+      fill(queue, blocker);
+      StringBuilder description = new StringBuilder();
+      CompletableFuture<CompletableFuture<Void>> submitted =
+          CompletableFuture.supplyAsync(() -> queue.describeTo(description, "late", 3,
+                                                               UNLIMITED, UNLIMITED));
+      Thread.sleep(100L);
+      assertThat("blocked while full", submitted.isDone(), is(false));
+      blocker.release.countDown();
+      submitted.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+      assertThat(description.toString(), is("\"late\""));
+    }
+  }
+
+  @Test
+  public void closeDescribesQueuedValuesAndRejectsNewOnes() throws Exception {
+    Blocker blocker = new Blocker();
+    DescriptionQueue queue = new DescriptionQueue(1, 1, 1, Overflow.BLOCK);
+    CompletableFuture<Void> blocked = fill(queue, blocker);
+    queue.close();
+    CompletableFuture<Void> rejected = queue.describeTo(new StringBuilder(), "late", 3,
+                                                        UNLIMITED, UNLIMITED);
+    assertThat("rejected", failureOf(rejected), instanceOf(RejectedExecutionException.class));
+    blocker.release.countDown();
+    blocked.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    assertThat("terminated", queue.awaitTermination(TIMEOUT_SECONDS, TimeUnit.SECONDS),
+               is(true));
+  }
+
+  @Test
+  public void closeCompletesBlockedSubmissions() throws Exception {
+    Blocker blocker = new Blocker();
+    DescriptionQueue queue = new DescriptionQueue(1, 1, 1, Overflow.BLOCK);
+    fill(queue, blocker);
+    CompletableFuture<CompletableFuture<Void>> submitted =
+        CompletableFuture.supplyAsync(() -> queue.describeTo(new StringBuilder(), "late", 3,
+                                                             UNLIMITED, UNLIMITED));
+    Thread.sleep(100L);
+    queue.close();
+    blocker.release.countDown();
+    // Either described before the worker stopped or rejected, but never left pending.
+    submitted.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+        .handle((result, failure) -> failure)
+        .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    assertThat("terminated", queue.awaitTermination(TIMEOUT_SECONDS, TimeUnit.SECONDS),
+               is(true));
+  }
+
+  @Test
+  public void closeWakesBlockedSubmissions() throws Exception {
+    Blocker blocker = new Blocker();
+    DescriptionQueue queue = new DescriptionQueue(1, 1, 1, Overflow.BLOCK);
+    fill(queue, blocker);
+    CompletableFuture<CompletableFuture<Void>> submitted =
+        CompletableFuture.supplyAsync(() -> queue.describeTo(new StringBuilder(), "late", 3,
+                                                             UNLIMITED, UNLIMITED));
+    Thread.sleep(100L);
+    queue.close();
+    // The worker is still blocked, thus there is no free slot.
+    CompletableFuture<Void> rejected = submitted.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    assertThat("rejected", failureOf(rejected), instanceOf(RejectedExecutionException.class));
+    blocker.release.countDown();
+    assertThat("terminated", queue.awaitTermination(TIMEOUT_SECONDS, TimeUnit.SECONDS),
+               is(true));
+  }
+
+  @Test
+  public void interruptedWorkersRejectQueuedValues() throws Exception {
+    Blocker blocker = new Blocker();
+    List<Thread> workers = new ArrayList<>();
+    DescriptionQueue queue = new DescriptionQueue(1, 1, 1, Overflow.BLOCK, runnable -> {
+      Thread worker = new Thread(runnable);
+      worker.setDaemon(true);
+      workers.add(worker);
+      return worker;
+    });
+    CompletableFuture<Void> queued = fill(queue, blocker);
+    workers.get(0).interrupt();
+    assertThat("queued", failureOf(queued), instanceOf(RejectedExecutionException.class));
+    assertThat("terminated", queue.awaitTermination(TIMEOUT_SECONDS, TimeUnit.SECONDS),
+               is(true));
+    CompletableFuture<Void> late = queue.describeTo(new StringBuilder(), "late", 3, UNLIMITED,
+                                                    UNLIMITED);
+    assertThat("late", failureOf(late), instanceOf(RejectedExecutionException.class));
+  }
+
+  @Test
+  public void errorFailsValueOnly() throws Exception {
+    try (DescriptionQueue queue = new DescriptionQueue(4, 1, 1, Overflow.BLOCK)) {
+      CompletableFuture<Void> failed = queue.describeTo(new StringBuilder(), new Failing(), 3,
+                                                        UNLIMITED, UNLIMITED);
+      assertThat("failed", failureOf(failed), instanceOf(AssertionError.class));
+      StringBuilder description = new StringBuilder();
+      queue.describeTo(description, "next", 3, UNLIMITED, UNLIMITED)
+          .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+      assertThat(description.toString(), is("\"next\""));
+    }
+  }
+
+  /**
+   * Block the only worker with the blocker and fill the queue of capacity 1 with another value.
+   *
+   * @return future of the queued value
+   */
+  private static CompletableFuture<Void> fill(DescriptionQueue queue, Blocker blocker)
+      throws InterruptedException {
+    queue.describeTo(new StringBuilder(), blocker, 3, UNLIMITED, UNLIMITED);
+    assertThat("worker blocked", blocker.entered.await(TIMEOUT_SECONDS, TimeUnit.SECONDS),
+               is(true));
+    return queue.describeTo(new StringBuilder(), "queued", 3, UNLIMITED, UNLIMITED);
+  }
+
+  private static Throwable failureOf(CompletableFuture<Void> future) throws Exception {
+    try {
+      future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    } catch (ExecutionException e) {
+      return e.getCause();
+    }
+    fail("Future should have failed.");
+    return null;
+  }
+
+  /**
+   * Fails with an error when described.
+   */
+  private static final class Failing {
+
+    @Override
+    public String toString() {
+      throw new AssertionError("Failing on purpose.");
+    }
+  }
+
+  /**
+   * Blocks the worker describing it until released.
+   */
+  private static final class Blocker {
+
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Override
+    public String toString() {
+      entered.countDown();
+      try {
+        release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return "blocker";
+    }
+  }
+}
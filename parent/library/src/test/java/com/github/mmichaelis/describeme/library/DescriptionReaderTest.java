@@ -0,0 +1,118 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.library;
+
+import com.github.mmichaelis.describeme.core.Describe;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.mmichaelis.describeme.core.DescriberProperties.UNLIMITED;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Descriptions read from a reader are rendered on demand.
+ */
+public class DescriptionReaderTest {
+
+  @Test
+  public void readCompleteDescription() throws Exception {
+    Map<String, Object> value = Collections.singletonMap(
+        "key", Arrays.asList("Lorem", new int[]{1, 2, 3}, Collections.singleton(4.5)));
+    for (int maxCount : new int[]{UNLIMITED, 0, 1, 2}) {
+      try (Reader reader = Describe.reader(value, 3, maxCount)) {
+        assertThat("maxCount " + maxCount, readFully(reader, 3),
+                   is(Describe.describe(value, 3, maxCount)));
+      }
+    }
+  }
+
+  @Test
+  public void readLengthLimitedDescription() throws Exception {
+    List<Object> value = Arrays.asList("Lorem", Arrays.asList(1, 2, 3));
+    try (Reader reader = Describe.reader(value, 3, UNLIMITED, 15)) {
+      assertThat(readFully(reader, 1), is("[\"Lorem\", [1, 2..."));
+    }
+  }
+
+  @Test
+  public void readDeeplyNestedDescription() throws Exception {
+    Object value = Collections.emptyList();
+    for (int i = 0; i < 10000; i++) {
+      value = Collections.singletonList(value);
+    }
+    try (Reader reader = Describe.reader(value, UNLIMITED, UNLIMITED)) {
+      assertThat(readFully(reader, 1024), is(Describe.describe(value, UNLIMITED, UNLIMITED)));
+    }
+  }
+
+  @Test
+  public void iteratorAdvancesOnlyAsFarAsRead() throws Exception {
+    AtomicInteger taken = new AtomicInteger();
+    Iterator<Integer> endless = new Iterator<Integer>() {
+      @Override
+      public boolean hasNext() {
+        return true;
+      }
+
+      @Override
+      public Integer next() {
+        return taken.incrementAndGet();
+      }
+    };
+    char[] chunk = new char[10];
+    try (Reader reader = Describe.reader(endless, 3, UNLIMITED)) {
+      assertThat("read", reader.read(chunk), is(10));
+      assertThat("description", new String(chunk), is("[1, 2, 3, "));
+      assertThat("taken", taken.get(), lessThan(6));
+    }
+    assertThat("taken after close", taken.get(), lessThan(6));
+  }
+
+  @Test
+  public void readAfterCloseFails() throws Exception {
+    Reader reader = Describe.reader(Arrays.asList(1, 2), 3, UNLIMITED);
+    assertThat("first", (char) reader.read(), is('['));
+    reader.close();
+    try {
+      reader.read();
+      fail("Reading a closed reader should fail.");
+    } catch (IOException ignored) {
+      // expected
+    }
+  }
+
+  private static String readFully(Reader reader, int chunkSize) throws IOException {
+    StringBuilder result = new StringBuilder();
+    char[] chunk = new char[chunkSize];
+    for (int count = reader.read(chunk); count >= 0; count = reader.read(chunk)) {
+      result.append(chunk, 0, count);
+    }
+    return result.toString();
+  }
+}
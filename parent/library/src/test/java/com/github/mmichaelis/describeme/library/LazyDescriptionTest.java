@@ -0,0 +1,89 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.library;
+
+import com.github.mmichaelis.describeme.core.Describe;
+import com.github.mmichaelis.describeme.core.LazyDescription;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Formatter;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.mmichaelis.describeme.core.DescriberProperties.UNLIMITED;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class LazyDescriptionTest {
+
+  @Test
+  public void nothingIsRenderedUntilRequested() throws Exception {
+    CountingValue value = new CountingValue();
+    Describe.lazy(value, UNLIMITED, UNLIMITED);
+    assertThat("rendered", value.calls.get(), is(0));
+  }
+
+  @Test
+  public void renderedOnlyOnce() throws Exception {
+    CountingValue value = new CountingValue();
+    LazyDescription description = Describe.lazy(Arrays.asList(value, "a"), UNLIMITED, UNLIMITED);
+    assertThat("first", description.toString(), is("[counting, \"a\"]"));
+    assertThat("format", String.format("%s", description), is("[counting, \"a\"]"));
+    assertThat("second", description.toString(), is("[counting, \"a\"]"));
+    assertThat("rendered", value.calls.get(), is(1));
+  }
+
+  @Test
+  public void renderedIntoFormatterBuffer() throws Exception {
+    CountingValue value = new CountingValue();
+    LazyDescription description = Describe.lazy(Arrays.asList(1, value), UNLIMITED, UNLIMITED);
+    StringBuilder sb = new StringBuilder("Processing ");
+    new Formatter(sb, Locale.ROOT).format("%s", description);
+    assertThat("formatted", sb.toString(), is("Processing [1, counting]"));
+    assertThat("rendered", value.calls.get(), is(1));
+    assertThat("not memoized", description.toString(), is("[1, counting]"));
+    assertThat("rendered again", value.calls.get(), is(2));
+  }
+
+  @Test
+  public void respectsWidthPrecisionAndFlags() throws Exception {
+    LazyDescription description = Describe.lazy("Lorem", UNLIMITED, UNLIMITED);
+    assertThat("width", String.format("%9s|", description), is("  \"Lorem\"|"));
+    assertThat("left justified", String.format("%-9s|", description), is("\"Lorem\"  |"));
+    assertThat("precision", String.format("%.3s|", description), is("\"Lo|"));
+    assertThat("upper case", String.format("%S", description), is("\"LOREM\""));
+  }
+
+  @Test
+  public void respectsMaxLength() throws Exception {
+    assertThat("truncated", Describe.lazy("Lorem", UNLIMITED, UNLIMITED, 3).toString(),
+               is("\"Lo..."));
+  }
+
+  private static final class CountingValue {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Override
+    public String toString() {
+      calls.incrementAndGet();
+      return "counting";
+    }
+  }
+}
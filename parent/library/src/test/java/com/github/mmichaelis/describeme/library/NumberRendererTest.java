@@ -0,0 +1,145 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.library;
+
+import com.github.mmichaelis.describeme.core.DescriptionSink;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+
+import javax.annotation.Nonnull;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Compares the rendered numbers with the output of {@link NumberFormat} for {@link Locale#ROOT}.
+ */
+public class NumberRendererTest {
+
+  private static final long SEED = 42L;
+  private static final int RANDOM_VALUES = 5000;
+  private static final int THREADS = 8;
+  private static final List<Number> EDGE_CASES = Arrays.asList(
+      0, -1, 1, 999, 1000, -1000, 123456789, Integer.MIN_VALUE, Integer.MAX_VALUE,
+      Long.MIN_VALUE, Long.MAX_VALUE, (short) -12345, (byte) -128,
+      new AtomicInteger(-4711), new AtomicLong(1234567L),
+      0.0, -0.0, 1.0, -1.0, 0.5, 1.5, 2.5, 0.0005, 0.0015, 0.0025, 0.00049, 0.0004999,
+      -0.0001, 0.8055, 0.0625, 0.1875, 0.9995, 0.9999, 9.9995, 999.9995, 123456.0005,
+      1e7, 1e8, 1.5e-3, 5.0e-4, 2.5e-4, 1234567.8915, 1e20, 1.2345678901234566E25,
+      Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, Double.MIN_NORMAL,
+      Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+      0.1f, 1.1f, -2.5f, Float.MAX_VALUE, Float.NaN,
+      new BigDecimal("-0.0001"), new BigDecimal("-0"), new BigDecimal("12345.6785"),
+      new BigDecimal("12345.6775"), new BigDecimal("0.0005"), new BigDecimal("0.00050"),
+      new BigDecimal("1E+5"), new BigDecimal("1.5E-3"), new BigDecimal("-999.9995"),
+      new BigDecimal("123456789012345678901234567890.123456789"),
+      BigInteger.ONE.shiftLeft(70), BigInteger.ONE.shiftLeft(70).negate(),
+      BigInteger.valueOf(-123456789L),
+      new DoubleAdder()
+  );
+
+  @Test
+  public void edgeCasesAreRenderedLikeNumberFormat() throws Exception {
+    for (Number value : EDGE_CASES) {
+      assertRenderedLikeNumberFormat(value);
+    }
+  }
+
+  @Test
+  public void randomDoublesAreRenderedLikeNumberFormat() throws Exception {
+    Random random = new Random(SEED);
+    for (int i = 0; i < RANDOM_VALUES; i++) {
+      // Random magnitudes around the rounding position with 1 to 17 significant digits.
+      double value = (random.nextDouble() - 0.5) * Math.pow(10.0, random.nextInt(14) - 5);
+      double rounded = new BigDecimal(value).round(
+          new MathContext(1 + random.nextInt(17))).doubleValue();
+      assertRenderedLikeNumberFormat(value);
+      assertRenderedLikeNumberFormat(rounded);
+      assertRenderedLikeNumberFormat((float) rounded);
+    }
+  }
+
+  @Test
+  public void randomTiesAreRenderedLikeNumberFormat() throws Exception {
+    Random random = new Random(SEED);
+    for (int i = 0; i < RANDOM_VALUES; i++) {
+      // Values ending in 5 at the fourth fraction digit.
+      double value = (random.nextInt(2000000) * 10 + 5) / 10000.0;
+      assertRenderedLikeNumberFormat(value);
+      assertRenderedLikeNumberFormat(-value);
+      assertRenderedLikeNumberFormat(new BigDecimal(value));
+    }
+  }
+
+  @Test
+  public void renderConcurrently() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      Collection<Callable<Void>> tasks = new ArrayList<>();
+      for (int i = 0; i < THREADS; i++) {
+        tasks.add(() -> {
+          for (Number value : EDGE_CASES) {
+            for (int j = 0; j < 100; j++) {
+              assertThat("concurrent description", render(value), is(expected(value)));
+            }
+          }
+          return null;
+        });
+      }
+      for (Future<Void> future : executor.invokeAll(tasks)) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static void assertRenderedLikeNumberFormat(@Nonnull Number value) {
+    assertThat("rendered " + value + " (" + value.getClass().getSimpleName() + ')',
+               render(value), is(expected(value)));
+  }
+
+  @Nonnull
+  private static String render(@Nonnull Number value) {
+    StringBuilder sb = new StringBuilder();
+    NumberRenderer.appendNumber(DescriptionSink.sinkFor(sb), value);
+    return sb.toString();
+  }
+
+  @Nonnull
+  private static String expected(@Nonnull Number value) {
+    return NumberFormat.getNumberInstance(Locale.ROOT).format(value);
+  }
+}
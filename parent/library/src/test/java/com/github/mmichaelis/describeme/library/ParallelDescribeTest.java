@@ -0,0 +1,88 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.library;
+
+import com.github.mmichaelis.describeme.core.Describer;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+
+import static com.github.mmichaelis.describeme.core.DescriberProperties.UNLIMITED;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Parallel description must be indistinguishable from sequential description.
+ */
+public class ParallelDescribeTest {
+
+  private static final int SIZE = 1000;
+  private static final int[] MAX_COUNTS = {UNLIMITED, 0, 1, 10, SIZE - 1, SIZE, SIZE + 1};
+  private static final int[] MAX_DEPTHS = {UNLIMITED, 1, 2, 3};
+
+  @Test
+  public void iterableDescribedAsSequentially() throws Exception {
+    List<Object> list = new ArrayList<>();
+    for (int i = 0; i < SIZE; i++) {
+      list.add(((i % 3) == 0) ? Arrays.asList(i, "Test " + i) : i);
+    }
+    // Cycles are tracked in parallel as well.
+    list.add(SIZE / 2, list);
+    list.add(Collections.singletonList(list));
+    assertDescribedAsSequentially(new IterableDescriber(), new IterableDescriber() {
+      @Override
+      protected int parallelThreshold() {
+        return 2;
+      }
+    }, list);
+  }
+
+  @Test
+  public void arrayDescribedAsSequentially() throws Exception {
+    Object[] array = new Object[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      array[i] = ((i % 2) == 0) ? new Object[]{i, array} : "Test";
+    }
+    assertDescribedAsSequentially(new ArrayDescriber(), new ArrayDescriber() {
+      @Override
+      protected int parallelThreshold() {
+        return 2;
+      }
+    }, array);
+  }
+
+  private static void assertDescribedAsSequentially(@Nonnull Describer sequential,
+                                                    @Nonnull Describer parallel,
+                                                    @Nonnull Object value) {
+    for (int maxDepth : MAX_DEPTHS) {
+      for (int maxCount : MAX_COUNTS) {
+        StringBuilder expected = new StringBuilder();
+        sequential.describeTo(expected, value, maxDepth, maxCount);
+        StringBuilder actual = new StringBuilder();
+        parallel.describeTo(actual, value, maxDepth, maxCount);
+        assertThat("maxDepth " + maxDepth + ", maxCount " + maxCount,
+                   actual.toString(), is(expected.toString()));
+      }
+    }
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.library;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import javax.annotation.Nonnull;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+@RunWith(Parameterized.class)
+public class StringDescriberTest {
+
+  private final CharSequence value;
+  private final int maxCount;
+  private final String expectedDescription;
+
+  public StringDescriberTest(@Nonnull CharSequence value, int maxCount,
+                             @Nonnull String expectedDescription) {
+    this.value = value;
+    this.maxCount = maxCount;
+    this.expectedDescription = expectedDescription;
+  }
+
+  @Nonnull
+  @Parameters(name = "Test {index}: {0}, maxCount {1}, expecting: {2}")
+  public static Collection<Object[]> data() {
+    return Arrays.asList(
+        new Object[][]{
+            {"Lorem", -1, "\"Lorem\""},
+            {"Lorem", 3, "\"Lor...\""},
+            {"", -1, "\"\""},
+            {"say \"hi\"", -1, "\"say \\\"hi\\\"\""},
+            {"C:\\temp", -1, "\"C:\\\\temp\""},
+            {"a\nb\r\tc\b\f", -1, "\"a\\nb\\r\\tc\\b\\f\""},
+            {"\u0000\u001b\u007f", -1, "\"\\u0000\\u001b\\u007f\""},
+            {"\"\"", 1, "\"\\\"...\""},
+            {new StringBuilder("a\"b"), -1, "\"a\\\"b\""},
+            {"ab\uD83D\uDE00cd", 3, "\"ab...\""},
+            {"ab\uD83D\uDE00cd", 4, "\"ab\uD83D\uDE00...\""},
+            {"\uD83D\uDE00", 1, "\"...\""},
+            {"\u00e4\u00f6\u00fc", -1, "\"\u00e4\u00f6\u00fc\""},
+        }
+    );
+  }
+
+  @Test
+  public void test() throws Exception {
+    StringBuilder sb = new StringBuilder();
+    new StringDescriber().describeTo(sb, value, -1, maxCount);
+    assertThat("expecting description", sb.toString(), is(expectedDescription));
+  }
+}
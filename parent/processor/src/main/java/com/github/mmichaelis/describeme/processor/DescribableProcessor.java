@@ -0,0 +1,247 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.processor;
+
+import com.github.mmichaelis.describeme.core.Describable;
+import com.github.mmichaelis.describeme.core.Describer;
+import com.github.mmichaelis.describeme.core.NotDescribed;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+import static java.text.MessageFormat.format;
+
+/**
+ * Generates a describer like {@code Outer_Person_Describer} in the same package for each class
+ * annotated with {@link Describable}, accessing fields without reflection. Classes with private
+ * fields to describe are skipped with a note.
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+public class DescribableProcessor extends AbstractProcessor {
+
+  /**
+   * The bean describer of the library relies on it to find generated describers.
+   */
+  private static final String DESCRIBER_SUFFIX = "_Describer";
+  private static final String SERVICES =
+      "META-INF/services/" + Describer.class.getName();
+
+  @Nonnull
+  private final Set<String> generated = new LinkedHashSet<>();
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    return Collections.singleton(Describable.class.getCanonicalName());
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    for (Element element : roundEnv.getElementsAnnotatedWith(Describable.class)) {
+      if (element.getKind() == ElementKind.CLASS) {
+        process((TypeElement) element);
+      }
+    }
+    if (roundEnv.processingOver() && !generated.isEmpty()) {
+      writeServices();
+    }
+    return false;
+  }
+
+  private void process(@Nonnull TypeElement type) {
+    PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+    List<VariableElement> fields = new ArrayList<>();
+    String problem = collectFields(type, pkg, fields);
+    if (problem != null) {
+      processingEnv.getMessager().printMessage(
+          Diagnostic.Kind.NOTE,
+          format("No describer generated for {0}, it is described reflectively: {1}",
+                 type.getQualifiedName(), problem),
+          type);
+      return;
+    }
+    String describerName = describerName(type, pkg);
+    String qualifiedName = pkg.isUnnamed() ? describerName : (pkg.getQualifiedName() + "."
+                                                               + describerName);
+    try {
+      JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+      try (Writer writer = file.openWriter()) {
+        new DescriberSource(type, pkg, describerName, fields,
+                            processingEnv.getTypeUtils()).writeTo(writer);
+      }
+      generated.add(qualifiedName);
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(
+          Diagnostic.Kind.ERROR,
+          format("Unable to generate describer {0}: {1}", qualifiedName, e), type);
+    }
+  }
+
+  /**
+   * Collect the fields to describe, those of superclasses first.
+   *
+   * @return problem preventing to generate a describer; {@code null} if there is none
+   */
+  @Nullable
+  private String collectFields(@Nonnull TypeElement type, @Nonnull PackageElement pkg,
+                               @Nonnull List<VariableElement> fields) {
+    if ((type.getNestingKind() != NestingKind.TOP_LEVEL)
+        && (type.getNestingKind() != NestingKind.MEMBER)) {
+      return "local and anonymous classes are not supported";
+    }
+    Deque<TypeElement> hierarchy = new ArrayDeque<>();
+    for (TypeElement current = type; current != null; current = superclassOf(current)) {
+      hierarchy.push(current);
+    }
+    for (TypeElement declaring : hierarchy) {
+      for (VariableElement field : ElementFilter.fieldsIn(declaring.getEnclosedElements())) {
+        Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)
+            || (field.getAnnotation(NotDescribed.class) != null)) {
+          continue;
+        }
+        if (!isAccessible(declaring, pkg) || !isAccessible(field, declaring, pkg)) {
+          return format("field {0} of {1} is not accessible from package {2}",
+                        field.getSimpleName(), declaring.getQualifiedName(),
+                        pkg.getQualifiedName());
+        }
+        fields.add(field);
+      }
+    }
+    return null;
+  }
+
+  @Nullable
+  private static TypeElement superclassOf(@Nonnull TypeElement type) {
+    TypeMirror superclass = type.getSuperclass();
+    if (superclass.getKind() != TypeKind.DECLARED) {
+      return null;
+    }
+    return (TypeElement) ((DeclaredType) superclass).asElement();
+  }
+
+  private boolean isAccessible(@Nonnull TypeElement type, @Nonnull PackageElement pkg) {
+    for (Element current = type; current instanceof TypeElement;
+         current = current.getEnclosingElement()) {
+      if (!isAccessible(current, (TypeElement) current, pkg)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean isAccessible(@Nonnull Element member, @Nonnull TypeElement declaring,
+                               @Nonnull PackageElement pkg) {
+    Set<Modifier> modifiers = member.getModifiers();
+    if (modifiers.contains(Modifier.PUBLIC)) {
+      return true;
+    }
+    return !modifiers.contains(Modifier.PRIVATE)
+           && processingEnv.getElementUtils().getPackageOf(declaring).equals(pkg);
+  }
+
+  @Nonnull
+  private String describerName(@Nonnull TypeElement type, @Nonnull PackageElement pkg) {
+    String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+    String flatName = pkg.isUnnamed()
+                      ? binaryName
+                      : binaryName.substring(pkg.getQualifiedName().length() + 1);
+    return flatName.replace('$', '_') + DESCRIBER_SUFFIX;
+  }
+
+  /**
+   * Write the names of all generated describers to the services file, after those registered
+   * there already, like by resources of the project.
+   */
+  private void writeServices() {
+    Filer filer = processingEnv.getFiler();
+    List<String> lines = new ArrayList<>();
+    try {
+      FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", SERVICES);
+      try (BufferedReader reader = new BufferedReader(
+          new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+          lines.add(line);
+        }
+      }
+    } catch (FileNotFoundException | NoSuchFileException ignored) {
+      // No describers registered yet.
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(
+          Diagnostic.Kind.ERROR, format("Unable to read {0}: {1}", SERVICES, e));
+      return;
+    }
+    for (String describer : generated) {
+      if (!lines.contains(describer)) {
+        lines.add(describer);
+      }
+    }
+    try {
+      FileObject services = filer.createResource(StandardLocation.CLASS_OUTPUT, "", SERVICES);
+      try (Writer writer = new OutputStreamWriter(services.openOutputStream(),
+                                                  StandardCharsets.UTF_8)) {
+        for (String line : lines) {
+          writer.write(line);
+          writer.write('\n');
+        }
+      }
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(
+          Diagnostic.Kind.ERROR, format("Unable to write {0}: {1}", SERVICES, e));
+    }
+  }
+}
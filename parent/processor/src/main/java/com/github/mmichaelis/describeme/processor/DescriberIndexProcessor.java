@@ -0,0 +1,260 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.processor;
+
+import com.github.mmichaelis.describeme.core.Describer;
+import com.github.mmichaelis.describeme.core.Describes;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import static java.text.MessageFormat.format;
+
+/**
+ * Records describers annotated with {@link Describes} in the describer index.
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+public class DescriberIndexProcessor extends AbstractProcessor {
+
+  private static final String INDEX = "META-INF/describeme/describers.index";
+
+  @Nonnull
+  private final Map<String, String> indexed = new LinkedHashMap<>();
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    return Collections.singleton(Describes.class.getCanonicalName());
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    for (Element element : roundEnv.getElementsAnnotatedWith(Describes.class)) {
+      process(element);
+    }
+    if (roundEnv.processingOver() && !indexed.isEmpty()) {
+      writeIndex();
+    }
+    return false;
+  }
+
+  private void process(@Nonnull Element element) {
+    TypeMirror describerType =
+        processingEnv.getElementUtils().getTypeElement(Describer.class.getName()).asType();
+    if ((element.getKind() != ElementKind.CLASS)
+        || element.getModifiers().contains(Modifier.ABSTRACT)
+        || !processingEnv.getTypeUtils().isAssignable(element.asType(), describerType)) {
+      processingEnv.getMessager().printMessage(
+          Diagnostic.Kind.ERROR,
+          format("@{0} requires a concrete class implementing {1}.",
+                 Describes.class.getSimpleName(), Describer.class.getName()),
+          element);
+      return;
+    }
+    TypeElement describer = (TypeElement) element;
+    Elements elements = processingEnv.getElementUtils();
+    String name = elements.getBinaryName(describer).toString();
+    StringBuilder line = new StringBuilder();
+    List<TypeMirror> types = new ArrayList<>();
+    for (AnnotationMirror annotation : describer.getAnnotationMirrors()) {
+      if (!((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName()
+          .contentEquals(Describes.class.getCanonicalName())) {
+        continue;
+      }
+      for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value
+          : elements.getElementValuesWithDefaults(annotation).entrySet()) {
+        String key = value.getKey().getSimpleName().toString();
+        if ("order".equals(key)) {
+          line.append(value.getValue().getValue());
+        } else if ("value".equals(key)) {
+          for (Object type : (List<?>) value.getValue().getValue()) {
+            types.add((TypeMirror) ((AnnotationValue) type).getValue());
+          }
+        }
+      }
+    }
+    line.append(' ').append(name);
+    for (TypeMirror type : types) {
+      String binaryName = binaryName(type);
+      if (binaryName == null) {
+        processingEnv.getMessager().printMessage(
+            Diagnostic.Kind.ERROR,
+            format("@{0} requires classes, interfaces or arrays, but got {1}.",
+                   Describes.class.getSimpleName(), type),
+            element);
+        return;
+      }
+      line.append(' ').append(binaryName);
+    }
+    if (types.isEmpty()) {
+      processingEnv.getMessager().printMessage(
+          Diagnostic.Kind.ERROR,
+          format("@{0} requires at least one type.", Describes.class.getSimpleName()), element);
+      return;
+    }
+    indexed.put(name, line.toString());
+  }
+
+  /**
+   * Name as returned by {@link Class#getName()}, so that the registry may load the type via
+   * {@link Class#forName(String, boolean, ClassLoader)}.
+   *
+   * @return binary name; {@code null} for types other than classes, interfaces and arrays
+   */
+  @Nullable
+  private String binaryName(@Nonnull TypeMirror type) {
+    switch (type.getKind()) {
+      case DECLARED:
+        return processingEnv.getElementUtils()
+            .getBinaryName((TypeElement) ((DeclaredType) type).asElement()).toString();
+      case ARRAY:
+        String descriptor = descriptor(((ArrayType) type).getComponentType());
+        return (descriptor == null) ? null : ('[' + descriptor);
+      default:
+        return null;
+    }
+  }
+
+  @Nullable
+  private String descriptor(@Nonnull TypeMirror type) {
+    switch (type.getKind()) {
+      case BOOLEAN:
+        return "Z";
+      case BYTE:
+        return "B";
+      case CHAR:
+        return "C";
+      case SHORT:
+        return "S";
+      case INT:
+        return "I";
+      case LONG:
+        return "J";
+      case FLOAT:
+        return "F";
+      case DOUBLE:
+        return "D";
+      case DECLARED:
+        return 'L' + binaryName(type) + ';';
+      case ARRAY:
+        return binaryName(type);
+      default:
+        return null;
+    }
+  }
+
+  private static int order(@Nonnull String line) {
+    try {
+      return Integer.parseInt(fields(line)[0]);
+    } catch (NumberFormatException ignored) {
+      // Comments and blank lines first.
+      return Integer.MIN_VALUE;
+    }
+  }
+
+  @Nonnull
+  private static String describer(@Nonnull String line) {
+    String[] fields = fields(line);
+    return (fields.length < 2) ? "" : fields[1];
+  }
+
+  @Nonnull
+  private static String[] fields(@Nonnull String line) {
+    return line.trim().split("\\s+");
+  }
+
+  /**
+   * Write the index, replacing lines of describers indexed again and keeping all others.
+   */
+  private void writeIndex() {
+    Filer filer = processingEnv.getFiler();
+    List<String> lines = new ArrayList<>();
+    try {
+      FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+      try (BufferedReader reader = new BufferedReader(
+          new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+          if (!indexed.containsKey(describer(line))) {
+            lines.add(line);
+          }
+        }
+      }
+    } catch (FileNotFoundException | NoSuchFileException ignored) {
+      // Nothing indexed yet.
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(
+          Diagnostic.Kind.ERROR, format("Unable to read {0}: {1}", INDEX, e));
+      return;
+    }
+    lines.addAll(indexed.values());
+    // Sorted as read by the registry, for reproducible builds.
+    lines.sort(Comparator.comparingInt(DescriberIndexProcessor::order)
+                   .thenComparing(DescriberIndexProcessor::describer));
+    try {
+      FileObject index = filer.createResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+      try (Writer writer = new OutputStreamWriter(index.openOutputStream(),
+                                                  StandardCharsets.UTF_8)) {
+        for (String line : lines) {
+          writer.write(line);
+          writer.write('\n');
+        }
+      }
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(
+          Diagnostic.Kind.ERROR, format("Unable to write {0}: {1}", INDEX, e));
+    }
+  }
+}
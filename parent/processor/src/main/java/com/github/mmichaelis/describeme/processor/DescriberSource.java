@@ -0,0 +1,133 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.Types;
+
+/**
+ * Source of a describer generated for one class.
+ *
+ * @since $$SINCE:2026-10-18$$
+ */
+final class DescriberSource {
+
+  private static final String CORE = "com.github.mmichaelis.describeme.core.";
+
+  @Nonnull
+  private final TypeElement type;
+  @Nonnull
+  private final PackageElement pkg;
+  @Nonnull
+  private final String describerName;
+  @Nonnull
+  private final List<VariableElement> fields;
+  @Nonnull
+  private final Types types;
+
+  DescriberSource(@Nonnull TypeElement type, @Nonnull PackageElement pkg,
+                  @Nonnull String describerName, @Nonnull List<VariableElement> fields,
+                  @Nonnull Types types) {
+    this.type = type;
+    this.pkg = pkg;
+    this.describerName = describerName;
+    this.fields = fields;
+    this.types = types;
+  }
+
+  void writeTo(@Nonnull Writer writer) throws IOException {
+    String typeName = rawName(type);
+    StringBuilder source = new StringBuilder();
+    if (!pkg.isUnnamed()) {
+      source.append("package ").append(pkg.getQualifiedName()).append(";\n\n");
+    }
+    source.append("/**\n")
+        .append(" * Describes {@link ").append(type.getQualifiedName())
+        .append("} by its fields. Generated by ")
+        .append(DescribableProcessor.class.getName()).append(", do not edit.\n")
+        .append(" */\n")
+        .append("@").append(CORE).append("Describes(").append(typeName).append(".class)\n")
+        .append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n")
+        .append("public final class ").append(describerName)
+        .append(" extends ").append(CORE).append("AbstractFieldsDescriber {\n\n")
+        .append("  private static final String[] NAMES = {");
+    for (int i = 0; i < fields.size(); i++) {
+      source.append((i > 0) ? ", " : "").append('"').append(fields.get(i).getSimpleName())
+          .append('"');
+    }
+    source.append("};\n\n")
+        .append("  @Override\n")
+        .append("  public boolean test(Object value) {\n")
+        .append("    return (value != null) && (value.getClass() == ").append(typeName)
+        .append(".class);\n")
+        .append("  }\n\n")
+        .append("  @Override\n")
+        .append("  public boolean isValueDependent() {\n")
+        .append("    return false;\n")
+        .append("  }\n\n")
+        .append("  @Override\n")
+        .append("  protected String typeName(Object value) {\n")
+        .append("    return \"").append(type.getSimpleName()).append("\";\n")
+        .append("  }\n\n")
+        .append("  @Override\n")
+        .append("  protected int fieldCount(Object value) {\n")
+        .append("    return NAMES.length;\n")
+        .append("  }\n\n")
+        .append("  @Override\n")
+        .append("  protected String fieldName(Object value, int index) {\n")
+        .append("    return NAMES[index];\n")
+        .append("  }\n\n")
+        .append("  @Override\n")
+        .append("  protected Object fieldValue(Object value, int index) {\n")
+        .append("    ").append(typeName).append(" bean = (").append(typeName)
+        .append(") value;\n")
+        .append("    switch (index) {\n");
+    for (int i = 0; i < fields.size(); i++) {
+      source.append("      case ").append(i).append(":\n")
+          .append("        return ").append(access(fields.get(i))).append(";\n");
+    }
+    source.append("      default:\n")
+        .append("        throw new IndexOutOfBoundsException(\"No field at index \" + index);\n")
+        .append("    }\n")
+        .append("  }\n")
+        .append("}\n");
+    writer.write(source.toString());
+  }
+
+  /**
+   * Field access, casting to the declaring class for inherited fields, as they may be hidden
+   * by fields of subclasses.
+   */
+  @Nonnull
+  private String access(@Nonnull VariableElement field) {
+    TypeElement declaring = (TypeElement) field.getEnclosingElement();
+    String owner = declaring.equals(type) ? "bean" : ("((" + rawName(declaring) + ") bean)");
+    return owner + "." + field.getSimpleName();
+  }
+
+  @Nonnull
+  private String rawName(@Nonnull TypeElement element) {
+    return types.erasure(element.asType()).toString();
+  }
+}
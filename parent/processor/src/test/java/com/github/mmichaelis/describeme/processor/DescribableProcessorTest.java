@@ -0,0 +1,233 @@
+/*
+ * Copyright 2015 Mark Michaelis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.mmichaelis.describeme.processor;
+
+import com.github.mmichaelis.describeme.core.AbstractDescriber;
+import com.github.mmichaelis.describeme.core.Describable;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Compiles sources with the processor and uses the describers generated.
+ */
+public class DescribableProcessorTest {
+
+  private static final String SERVICES =
+      "META-INF/services/com.github.mmichaelis.describeme.core.Describer";
+  private static final String INDEX = "META-INF/describeme/describers.index";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+  private Path sources;
+  private Path classes;
+  private DiagnosticCollector<JavaFileObject> diagnostics;
+
+  @Before
+  public void setUp() throws Exception {
+    sources = folder.newFolder("sources").toPath();
+    classes = folder.newFolder("classes").toPath();
+    diagnostics = new DiagnosticCollector<>();
+  }
+
+  @Test
+  public void generateDescriber() throws Exception {
+    source("example/Person.java",
+           "package example;",
+           "@com.github.mmichaelis.describeme.core.Describable",
+           "public class Person {",
+           "  static final String IGNORED = \"static\";",
+           "  final String name;",
+           "  protected int age;",
+           "  transient Object cache;",
+           "  @com.github.mmichaelis.describeme.core.NotDescribed String password = \"x\";",
+           "  public Person(String name, int age) { this.name = name; this.age = age; }",
+           "}");
+    source("example/Employee.java",
+           "package example;",
+           "public class Employee extends Person {",
+           "  @com.github.mmichaelis.describeme.core.Describable",
+           "  public static class Company {",
+           "    public String toString() { return \"ACME\"; }",
+           "  }",
+           "  String name = \"hidden\";",
+           "  Company company = new Company();",
+           "  public Employee(String name, int age) { super(name, age); }",
+           "}");
+    compile();
+    try (URLClassLoader loader = loader()) {
+      Object person = loader.loadClass("example.Person")
+          .getConstructor(String.class, int.class).newInstance("Alice", 42);
+      Object employee = loader.loadClass("example.Employee")
+          .getConstructor(String.class, int.class).newInstance("Bob", 23);
+      AbstractDescriber personDescriber = describer(loader, "example.Person_Describer");
+      AbstractDescriber employeeDescriber = describer(loader, "example.Employee_Describer");
+      assertThat("person", describe(personDescriber, person, -1),
+                 is("Person{name=Alice, age=42}"));
+      assertThat("person limited", describe(personDescriber, person, 1),
+                 is("Person{name=Alice, ...}"));
+      assertThat("employee", describe(employeeDescriber, employee, -1),
+                 is("Employee{name=Bob, age=23, name=hidden, company=ACME}"));
+      assertThat("exact type only", personDescriber.test(employee), is(false));
+    }
+    assertThat("services", readServices(),
+               containsInAnyOrder("example.Person_Describer", "example.Employee_Describer",
+                        "example.Employee_Company_Describer"));
+    assertThat("index", readIndex(),
+               containsInAnyOrder("0 example.Person_Describer example.Person",
+                                  "0 example.Employee_Describer example.Employee",
+                                  "0 example.Employee_Company_Describer example.Employee$Company"));
+  }
+
+  @Test
+  public void indexDescribersWithOrderAndTypes() throws Exception {
+    Path index = classes.resolve(INDEX);
+    Files.createDirectories(index.getParent());
+    Files.write(index, Arrays.asList("1 example.OtherDescriber java.lang.Object",
+                                     "2 example.ContainerDescriber java.lang.Object"),
+                StandardCharsets.UTF_8);
+    source("example/ContainerDescriber.java",
+           "package example;",
+           "@com.github.mmichaelis.describeme.core.Describes(",
+           "    value = {Iterable.class, Object[].class, int[][].class}, order = 5)",
+           "public class ContainerDescriber",
+           "    extends com.github.mmichaelis.describeme.core.AbstractDescriber {",
+           "  public boolean test(Object value) { return false; }",
+           "  protected void internalDescribeTo(Appendable appendable, Object value,",
+           "      int maxCount, java.util.function.BiConsumer<Object, Object> consumer) {",
+           "  }",
+           "}");
+    compile();
+    assertThat(readIndex(),
+               contains("1 example.OtherDescriber java.lang.Object",
+                        "5 example.ContainerDescriber java.lang.Iterable [Ljava.lang.Object; [[I"));
+  }
+
+  @Test
+  public void mergeWithRegisteredDescribers() throws Exception {
+    Path services = classes.resolve(SERVICES);
+    Files.createDirectories(services.getParent());
+    Files.write(services, Arrays.asList("# Registered by hand", "example.OtherDescriber"),
+                StandardCharsets.UTF_8);
+    source("example/Person.java",
+           "package example;",
+           "@com.github.mmichaelis.describeme.core.Describable",
+           "public class Person { String name; }");
+    compile();
+    assertThat(readServices(),
+               contains("# Registered by hand", "example.OtherDescriber",
+                        "example.Person_Describer"));
+  }
+
+  @Test
+  public void skipClassesWithPrivateFields() throws Exception {
+    source("example/Secret.java",
+           "package example;",
+           "@com.github.mmichaelis.describeme.core.Describable",
+           "public class Secret { private String name; }");
+    compile();
+    assertThat("no describer", Files.exists(classes.resolve("example/Secret_Describer.class")),
+               is(false));
+    List<String> notes = diagnostics.getDiagnostics().stream()
+        .filter(d -> d.getKind() == Diagnostic.Kind.NOTE)
+        .map(d -> d.getMessage(Locale.ROOT))
+        .collect(Collectors.toList());
+    assertThat(notes, hasItem(startsWith("No describer generated for example.Secret")));
+  }
+
+  private void source(String path, String... lines) throws IOException {
+    Path file = sources.resolve(path);
+    Files.createDirectories(file.getParent());
+    Files.write(file, Arrays.asList(lines), StandardCharsets.UTF_8);
+  }
+
+  private void compile() throws IOException, URISyntaxException {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    try (StandardJavaFileManager fileManager =
+             compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8)) {
+      List<File> files;
+      try (Stream<Path> paths = Files.walk(sources)) {
+        files = paths.filter(p -> p.toString().endsWith(".java"))
+            .map(Path::toFile)
+            .collect(Collectors.toList());
+      }
+      // Surefire hides the class path in a manifest, thus pass the location of core.
+      String classPath =
+          new File(Describable.class.getProtectionDomain().getCodeSource().getLocation()
+                       .toURI()).getPath();
+      JavaCompiler.CompilationTask task = compiler.getTask(
+          null, fileManager, diagnostics,
+          Arrays.asList("-d", classes.toString(), "-classpath", classPath),
+          null, fileManager.getJavaFileObjectsFromFiles(files));
+      task.setProcessors(Arrays.asList(new DescribableProcessor(),
+                                       new DescriberIndexProcessor()));
+      assertThat("compiled: " + diagnostics.getDiagnostics(), task.call(), is(true));
+    }
+  }
+
+  private URLClassLoader loader() throws IOException {
+    return new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader());
+  }
+
+  private static AbstractDescriber describer(ClassLoader loader, String name) throws Exception {
+    return (AbstractDescriber) loader.loadClass(name).getConstructor().newInstance();
+  }
+
+  private static String describe(AbstractDescriber describer, Object value, int maxCount) {
+    StringBuilder sb = new StringBuilder();
+    describer.describeTo(sb, value, 3, maxCount);
+    return sb.toString();
+  }
+
+  private List<String> readServices() throws IOException {
+    return Files.readAllLines(classes.resolve(SERVICES), StandardCharsets.UTF_8);
+  }
+
+  private List<String> readIndex() throws IOException {
+    return Files.readAllLines(classes.resolve(INDEX), StandardCharsets.UTF_8);
+  }
+}